@@ -0,0 +1,204 @@
+package com.ssafy.ottereview.account.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.ottereview.account.event.RepoPermissionChangedEvent;
+import com.ssafy.ottereview.preparation.dto.UserInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 계정별 멤버 목록 인덱스
+ * 계정마다 한 번만 조회해 id 로 정렬된 배열로 보관하고, 리뷰어 후보(작성자 제외) 목록과 이름 접두어 검색을 복사 없이 제공한다.
+ * 설치/멤버십 웹훅이 오면 해당 계정 또는 전체를 비우고, 다음 조회 때 새로 만든다.
+ * 웹훅은 한 노드에서만 처리되므로 무효화는 Redis pub/sub 으로 모든 노드에 전파한다.
+ */
+@Slf4j
+@Component
+public class AccountMemberDirectory implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "account-member:invalidate";
+
+    private static final String ALL_ACCOUNTS = "*";
+
+    private final UserAccountService userAccountService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<Long, MemberIndex> indexes;
+
+    public AccountMemberDirectory(UserAccountService userAccountService,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${account.member-directory.maximum-size:1000}") long maximumSize,
+            @Value("${account.member-directory.ttl:PT30M}") Duration ttl) {
+        this.userAccountService = userAccountService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "accountMemberDirectory");
+    }
+
+    /**
+     * 계정 멤버 중 작성자를 제외한 목록 (리뷰어 후보)
+     * 반환 목록은 인덱스를 그대로 보여주는 읽기 전용 view 이다.
+     */
+    public List<UserInfo> allExcept(Long accountId, Long authorId) {
+        return indexOf(accountId).allExcept(authorId);
+    }
+
+    /**
+     * GitHub 사용자명 접두어로 멤버를 찾는다. (대소문자 무시, 사용자명 순, limit 이 0 이하면 빈 목록)
+     */
+    public List<UserInfo> searchByPrefix(Long accountId, String prefix, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return indexOf(accountId).searchByPrefix(prefix, limit);
+    }
+
+    /**
+     * 멤버십 웹훅은 누가 추가/제거됐는지 알려 주지 않으므로 해당 계정(모를 때는 전체)의 인덱스를 비운다.
+     * 트랜잭션 안에서 발행되면 커밋된 뒤에만 비워, 롤백된 변경이 인덱스에 반영되지 않게 한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void invalidate(RepoPermissionChangedEvent event) {
+        invalidateLocal(event.accountId());
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                event.accountId() == null ? ALL_ACCOUNTS : String.valueOf(event.accountId()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidateLocal(ALL_ACCOUNTS.equals(body) ? null : Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 계정 멤버 인덱스 무효화 메시지: {}", body);
+        }
+    }
+
+    private void invalidateLocal(Long accountId) {
+        if (accountId == null) {
+            indexes.invalidateAll();
+            log.debug("계정 멤버 인덱스 전체 무효화");
+            return;
+        }
+
+        indexes.invalidate(accountId);
+        log.debug("계정 멤버 인덱스 무효화, accountId: {}", accountId);
+    }
+
+    private MemberIndex indexOf(Long accountId) {
+        return indexes.get(accountId, id -> MemberIndex.of(userAccountService.getUsersByAccount(id)
+                .stream()
+                .map(user -> UserInfo.builder()
+                        .id(user.getId())
+                        .githubUsername(user.getGithubUsername())
+                        .githubEmail(user.getGithubEmail())
+                        .build())
+                .toList()));
+    }
+
+    /**
+     * 변경되지 않는 멤버 인덱스. 갱신은 새 인덱스를 만들어 교체한다.
+     */
+    static final class MemberIndex {
+
+        private final long[] ids;
+        private final UserInfo[] members;
+
+        // 사용자명(소문자) 순으로 정렬한 members 의 위치
+        private final String[] sortedNames;
+        private final int[] namePositions;
+
+        private MemberIndex(UserInfo[] membersSortedById) {
+            this.members = membersSortedById;
+            this.ids = new long[members.length];
+            for (int i = 0; i < members.length; i++) {
+                ids[i] = members[i].getId();
+            }
+
+            Integer[] order = new Integer[members.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(i -> nameOf(members[i])));
+
+            this.sortedNames = new String[members.length];
+            this.namePositions = new int[members.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedNames[i] = nameOf(members[order[i]]);
+                namePositions[i] = order[i];
+            }
+        }
+
+        static MemberIndex of(List<UserInfo> members) {
+            UserInfo[] sorted = members.stream()
+                    .sorted(Comparator.comparingLong(UserInfo::getId))
+                    .toArray(UserInfo[]::new);
+            return new MemberIndex(sorted);
+        }
+
+        List<UserInfo> allExcept(Long excludedId) {
+            int excluded = excludedId != null ? Arrays.binarySearch(ids, excludedId) : -1;
+            if (excluded < 0) {
+                return Collections.unmodifiableList(Arrays.asList(members));
+            }
+
+            return new AbstractList<>() {
+                @Override
+                public UserInfo get(int index) {
+                    return members[index < excluded ? index : index + 1];
+                }
+
+                @Override
+                public int size() {
+                    return members.length - 1;
+                }
+            };
+        }
+
+        List<UserInfo> searchByPrefix(String prefix, int limit) {
+            String normalized = prefix == null ? "" : prefix.toLowerCase(Locale.ROOT);
+
+            int from = Arrays.binarySearch(sortedNames, normalized);
+            if (from < 0) {
+                from = -from - 1;
+            }
+
+            List<UserInfo> result = new ArrayList<>(Math.min(limit, sortedNames.length - from));
+            for (int i = from; i < sortedNames.length && result.size() < limit; i++) {
+                if (!sortedNames[i].startsWith(normalized)) {
+                    break;
+                }
+                result.add(members[namePositions[i]]);
+            }
+            return result;
+        }
+
+        private static String nameOf(UserInfo member) {
+            return member.getGithubUsername() == null ? "" : member.getGithubUsername()
+                    .toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ssafy.ottereview.preparation.service;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작성자가 PR 준비 정보를 마지막으로 만든(validatePullRequest) 시각을 기억하는 컴포넌트
+ * 준비 화면 조회(폴링)마다 Redis 에 쓰지 않도록 준비 정보를 만들 때만 기록한다.
+ * push 이벤트 기반 미리 준비 작업의 우선순위를 정할 때 사용하며, push payload 에서 바로 찾을 수 있도록 GitHub 사용자 id 로 기록한다.
+ * 준비 화면 요청과 push 웹훅은 서로 다른 노드에서 처리될 수 있으므로 Redis 에 기간(activity-window) TTL 로 저장한다.
+ */
+@Component
+public class AuthorActivityTracker {
+
+    private static final String KEY_PREFIX = "author-activity:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration activityWindow;
+
+    public AuthorActivityTracker(StringRedisTemplate stringRedisTemplate,
+            @Value("${preparation.prewarm.activity-window:P7D}") Duration activityWindow) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.activityWindow = activityWindow;
+    }
+
+    public void recordActivity(Long githubUserId) {
+        stringRedisTemplate.opsForValue()
+                .set(KEY_PREFIX + githubUserId, String.valueOf(System.currentTimeMillis()), activityWindow);
+    }
+
+    /**
+     * 마지막 활동 시각 (epoch millis). 기간 안에 활동이 없으면 0 이다.
+     */
+    public long lastActiveAt(Long githubUserId) {
+        String activeAt = stringRedisTemplate.opsForValue()
+                .get(KEY_PREFIX + githubUserId);
+        return activeAt != null ? Long.parseLong(activeAt) : 0L;
+    }
+}
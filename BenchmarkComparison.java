@@ -0,0 +1,110 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 두 JMH JSON 결과(기준/현재)를 벤치마크·파라미터 단위로 비교해 처리량과 호출당 할당량 변화를 출력한다.
+ * 인자: 기준 결과 파일, 현재 결과 파일, [허용 처리량 감소율 % (기본: 10)]
+ * 허용치보다 처리량이 떨어진 벤치마크가 있으면 종료 코드 1 로 끝난다.
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOC_NORM_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: BenchmarkComparison <baseline.json> <current.json> [max-regression-percent]");
+            System.exit(2);
+        }
+
+        Map<String, JsonNode> baseline = readResults(Path.of(args[0]));
+        Map<String, JsonNode> current = readResults(Path.of(args[1]));
+        double maxRegressionPercent = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        boolean regressed = false;
+        System.out.printf("%-80s %14s %14s %9s %14s %14s%n", "benchmark", "baseline", "current", "change",
+                "alloc(B/op)", "alloc change");
+
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-80s %14s %14.2f%n", entry.getKey(), "-", score(entry.getValue()));
+                continue;
+            }
+
+            // 처리량 모드 기준이므로 점수가 낮아지면 느려진 것이다.
+            double baseScore = score(base);
+            double currentScore = score(entry.getValue());
+            double change = percentChange(baseScore, currentScore);
+
+            double baseAlloc = allocationPerOp(base);
+            double currentAlloc = allocationPerOp(entry.getValue());
+
+            System.out.printf("%-80s %14.2f %14.2f %8.1f%% %14.0f %13.1f%%%n", entry.getKey(), baseScore, currentScore,
+                    change, currentAlloc, percentChange(baseAlloc, currentAlloc));
+
+            if (change < -maxRegressionPercent) {
+                regressed = true;
+            }
+        }
+
+        if (regressed) {
+            System.out.printf("처리량이 %.1f%% 넘게 감소한 벤치마크가 있습니다.%n", maxRegressionPercent);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 결과를 "벤치마크 이름 {파라미터}" → 결과 노드로 읽는다.
+     */
+    private static Map<String, JsonNode> readResults(Path path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(path.toFile())) {
+            String name = result.path("benchmark")
+                    .asText();
+            JsonNode params = result.get("params");
+            results.put(params == null ? name : name + " " + params, result);
+        }
+        return results;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric")
+                .path("score")
+                .asDouble();
+    }
+
+    /**
+     * gc 프로파일러의 호출당 할당 바이트. JMH 버전에 따라 지표 이름 앞에 "·" 가 붙는다.
+     */
+    private static double allocationPerOp(JsonNode result) {
+        JsonNode secondaryMetrics = result.path("secondaryMetrics");
+        Iterator<Map.Entry<String, JsonNode>> fields = secondaryMetrics.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getKey()
+                    .endsWith(ALLOC_NORM_METRIC)) {
+                return field.getValue()
+                        .path("score")
+                        .asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static double percentChange(double baseline, double current) {
+        if (baseline == 0 || Double.isNaN(baseline)) {
+            return Double.NaN;
+        }
+        return (current - baseline) / baseline * 100;
+    }
+}
@@ -0,0 +1,346 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GitHub;
+
+/**
+ * 벤치마크용 입력 데이터 생성기
+ * 실행마다 같은 입력을 쓰도록 시드를 고정한다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 20250806L;
+
+    private static final String REPOSITORY_FULL_NAME = "kangboom/ottereview-test";
+
+    // compare 응답의 파일별 patch 크기 분포 (바이트, 누적 비율). 0 은 patch 가 없는 바이너리 파일이다.
+    private static final int[] PATCH_SIZES = {0, 1024, 4 * 1024, 16 * 1024, 300 * 1024};
+    private static final double[] PATCH_SIZE_CUMULATIVE = {0.05, 0.70, 0.90, 0.98, 1.0};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * GitHub compare 응답의 patch 와 같은 형식의 unified diff 를 대략 targetBytes 크기로 만든다.
+     */
+    public static String generatePatch(int targetBytes) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(targetBytes + 256);
+
+        int oldLine = 1;
+        int newLine = 1;
+        while (sb.length() < targetBytes) {
+            int context = 3 + random.nextInt(4);
+            int removed = random.nextInt(8);
+            int added = random.nextInt(12);
+
+            sb.append("@@ -")
+                    .append(oldLine)
+                    .append(',')
+                    .append(context + removed)
+                    .append(" +")
+                    .append(newLine)
+                    .append(',')
+                    .append(context + added)
+                    .append(" @@ public class Generated")
+                    .append(oldLine)
+                    .append(" {\n");
+
+            for (int i = 0; i < context; i++) {
+                sb.append("     private final String field")
+                        .append(i)
+                        .append(" = \"context line value\";\n");
+            }
+            for (int i = 0; i < removed; i++) {
+                sb.append("-    return legacyValue")
+                        .append(random.nextInt(1000))
+                        .append(" + \"removed line\";\n");
+            }
+            for (int i = 0; i < added; i++) {
+                sb.append("+    return computeValue")
+                        .append(random.nextInt(1000))
+                        .append("(input, \"added line\");\n");
+            }
+
+            oldLine += context + removed + 20;
+            newLine += context + added + 20;
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 캡처한 GitHub compare 응답의 files 항목과 같은 형식으로 fileCount 개 파일의 JSON 배열을 만든다.
+     * patch 크기는 PATCH_SIZES 분포를 따르며, 일부 파일은 지연 파싱 기준(256KB)을 넘는다.
+     */
+    public static String compareFilesJson(int fileCount) {
+        Random random = new Random(SEED);
+        Map<Integer, String> escapedPatches = new HashMap<>();
+        StringBuilder sb = new StringBuilder(fileCount * 2048);
+
+        sb.append('[');
+        for (int i = 0; i < fileCount; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+
+            String sha = sha(random);
+            String filename = "src/main/java/com/ssafy/ottereview/module" + (i % 40) + "/Generated" + i + ".java";
+            int patchSize = pickPatchSize(random.nextDouble());
+            int changes = patchSize / 40;
+            int additions = changes * 2 / 3;
+
+            double statusRoll = random.nextDouble();
+            String status = statusRoll < 0.70 ? "modified"
+                    : statusRoll < 0.90 ? "added" : statusRoll < 0.95 ? "removed" : "renamed";
+
+            sb.append("{\"sha\":\"")
+                    .append(sha)
+                    .append("\",\"filename\":\"")
+                    .append(filename)
+                    .append("\",\"status\":\"")
+                    .append(status)
+                    .append("\",\"additions\":")
+                    .append(additions)
+                    .append(",\"deletions\":")
+                    .append(changes - additions)
+                    .append(",\"changes\":")
+                    .append(changes)
+                    .append(",\"blob_url\":\"https://github.com/")
+                    .append(REPOSITORY_FULL_NAME)
+                    .append("/blob/")
+                    .append(sha)
+                    .append('/')
+                    .append(filename)
+                    .append("\",\"raw_url\":\"https://github.com/")
+                    .append(REPOSITORY_FULL_NAME)
+                    .append("/raw/")
+                    .append(sha)
+                    .append('/')
+                    .append(filename)
+                    .append("\",\"contents_url\":\"https://api.github.com/repos/")
+                    .append(REPOSITORY_FULL_NAME)
+                    .append("/contents/")
+                    .append(filename)
+                    .append("?ref=")
+                    .append(sha)
+                    .append('"');
+
+            if ("renamed".equals(status)) {
+                sb.append(",\"previous_filename\":\"")
+                        .append(filename.replace("Generated", "Legacy"))
+                        .append('"');
+            }
+
+            if (patchSize > 0) {
+                sb.append(",\"patch\":\"")
+                        .append(escapedPatches.computeIfAbsent(patchSize, size -> escapeJson(generatePatch(size))))
+                        .append('"');
+            }
+            sb.append('}');
+        }
+        sb.append(']');
+
+        return sb.toString();
+    }
+
+    /**
+     * compareFilesJson 을 GitHub 클라이언트와 같은 매퍼로 읽어 GHCompare.getFiles() 와 같은 배열을 만든다.
+     */
+    public static GHCommit.File[] compareFiles(int fileCount) {
+        try {
+            return githubReader().forType(GHCommit.File[].class)
+                    .readValue(compareFilesJson(fileCount));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read compare files fixture", e);
+        }
+    }
+
+    /**
+     * 캡처한 pull_request 응답과 같은 형식의 열린 PR 을 count 개 만든다. PR 번호는 1 부터 차례로 붙는다.
+     * GithubPrResponse 로 변환할 때 상세 조회가 일어나지 않도록 mergeable_state 등 상세 필드까지 채운다.
+     */
+    public static List<GHPullRequest> pullRequests(int count) {
+        Random random = new Random(SEED);
+        ObjectReader reader = githubReader().forType(GHPullRequest.class);
+        List<GHPullRequest> pullRequests = new ArrayList<>(count);
+
+        try {
+            for (int number = 1; number <= count; number++) {
+                pullRequests.add(reader.readValue(pullRequestJson(number, random)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read pull request fixture", e);
+        }
+
+        return pullRequests;
+    }
+
+    private static String pullRequestJson(int number, Random random) {
+        int authorIndex = random.nextInt(50);
+        String updatedAt = "2025-08-%02dT%02d:%02d:00Z".formatted(1 + random.nextInt(28), random.nextInt(24),
+                random.nextInt(60));
+
+        return """
+                {
+                  "url": "https://api.github.com/repos/%1$s/pulls/%2$d",
+                  "id": %3$d,
+                  "node_id": "PR_kwDOPYZagM6%2$07d",
+                  "html_url": "https://github.com/%1$s/pull/%2$d",
+                  "diff_url": "https://github.com/%1$s/pull/%2$d.diff",
+                  "patch_url": "https://github.com/%1$s/pull/%2$d.patch",
+                  "issue_url": "https://api.github.com/repos/%1$s/issues/%2$d",
+                  "number": %2$d,
+                  "state": "open",
+                  "locked": false,
+                  "title": "feat: 리뷰 화면 개선 #%2$d",
+                  "body": "변경 사항 요약\\n- 파일 목록 정렬\\n- 코멘트 표시 개선",
+                  "user": {
+                    "login": "member%4$d",
+                    "id": %5$d,
+                    "avatar_url": "https://avatars.githubusercontent.com/u/%5$d?v=4",
+                    "type": "User"
+                  },
+                  "created_at": "2025-08-01T09:00:00Z",
+                  "updated_at": "%6$s",
+                  "head": {
+                    "label": "member%4$d:feature/%2$d",
+                    "ref": "feature/%2$d",
+                    "sha": "%7$s"
+                  },
+                  "base": {
+                    "label": "kangboom:main",
+                    "ref": "main",
+                    "sha": "%8$s"
+                  },
+                  "draft": false,
+                  "merged": false,
+                  "mergeable": true,
+                  "mergeable_state": "clean",
+                  "comments": %9$d,
+                  "review_comments": %10$d,
+                  "commits": %11$d,
+                  "additions": %12$d,
+                  "deletions": %13$d,
+                  "changed_files": %14$d,
+                  "requested_reviewers": [],
+                  "labels": [],
+                  "assignees": []
+                }
+                """.formatted(REPOSITORY_FULL_NAME, number, 2723459180L + number, authorIndex, 103165796L + authorIndex,
+                updatedAt, sha(random), sha(random), random.nextInt(10), random.nextInt(30), 1 + random.nextInt(20),
+                random.nextInt(2000), random.nextInt(800), 1 + random.nextInt(60));
+    }
+
+    /**
+     * hub4j 가 GitHub 응답을 읽을 때 쓰는 매퍼 (네트워크 호출이 없는 offline 클라이언트에 연결)
+     */
+    private static ObjectReader githubReader() {
+        return GitHub.getMappingObjectReader(GitHub.offline());
+    }
+
+    private static int pickPatchSize(double roll) {
+        for (int i = 0; i < PATCH_SIZE_CUMULATIVE.length; i++) {
+            if (roll < PATCH_SIZE_CUMULATIVE[i]) {
+                return PATCH_SIZES[i];
+            }
+        }
+        return PATCH_SIZES[PATCH_SIZES.length - 1];
+    }
+
+    private static String sha(Random random) {
+        StringBuilder sb = new StringBuilder(40);
+        for (int i = 0; i < 40; i++) {
+            sb.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return sb.toString();
+    }
+
+    private static String escapeJson(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n");
+    }
+
+    /**
+     * 캡처한 pull_request_review_comment 웹훅 payload 를 기준으로, diff_hunk 를 대략 diffHunkBytes 크기로 늘린 payload 를 만든다.
+     */
+    public static String reviewCommentPayload(int diffHunkBytes) {
+        String diffHunk = escapeJson(generatePatch(diffHunkBytes));
+
+        return """
+                {
+                  "action": "created",
+                  "comment": {
+                    "id": 2256074214,
+                    "node_id": "PRRC_kwDOPYZagM6GePXm",
+                    "pull_request_review_id": 3090708362,
+                    "path": "test.txt",
+                    "diff_hunk": "%s",
+                    "user": {
+                      "login": "kangboom",
+                      "id": 103165796,
+                      "avatar_url": "https://avatars.githubusercontent.com/u/103165796?v=4",
+                      "html_url": "https://github.com/kangboom"
+                    },
+                    "body": "리뷰 코멘트",
+                    "line": 12,
+                    "side": "RIGHT",
+                    "position": 7,
+                    "author_association": "COLLABORATOR",
+                    "start_line": 12,
+                    "original_start_line": 12,
+                    "start_side": "LEFT",
+                    "original_line": 12,
+                    "original_position": 7,
+                    "subject_type": "line"
+                  },
+                  "pull_request": {
+                    "id": 2723459180,
+                    "number": 12,
+                    "state": "open",
+                    "title": "리뷰 테스트",
+                    "user": {
+                      "login": "kangboom",
+                      "id": 103165796
+                    },
+                    "head": {
+                      "ref": "feature/test",
+                      "sha": "3f1c2a9d8e7b6a5f4e3d2c1b0a9f8e7d6c5b4a39"
+                    },
+                    "base": {
+                      "ref": "main",
+                      "sha": "9a8b7c6d5e4f3a2b1c0d9e8f7a6b5c4d3e2f1a0b"
+                    }
+                  },
+                  "repository": {
+                    "id": 1032206976,
+                    "name": "ottereview-test",
+                    "full_name": "kangboom/ottereview-test",
+                    "private": false,
+                    "owner": {
+                      "login": "kangboom",
+                      "id": 103165796
+                    }
+                  },
+                  "sender": {
+                    "login": "kangboom",
+                    "id": 103165796
+                  },
+                  "installation": {
+                    "id": 79283541,
+                    "node_id": "MDIzOkludGVncmF0aW9uSW5zdGFsbGF0aW9uNzkyODM1NDE="
+                  }
+                }
+                """.formatted(diffHunk);
+    }
+}
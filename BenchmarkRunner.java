@@ -0,0 +1,39 @@
+package com.ssafy.ottereview.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크를 gc 프로파일러와 함께 실행하고 결과를 JSON 으로 저장한다. (BenchmarkComparison 의 입력)
+ * 인자: [포함할 벤치마크 정규식 (기본: 전체)] [결과 파일 (기본: build/jmh/result.json)]
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_INCLUDE = BenchmarkRunner.class.getPackageName() + "\\..*Benchmark";
+    private static final String DEFAULT_RESULT = "build/jmh/result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length > 0 ? args[0] : DEFAULT_INCLUDE;
+        Path result = Path.of(args.length > 1 ? args[1] : DEFAULT_RESULT);
+
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build()).run();
+    }
+}
@@ -0,0 +1,168 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.ssafy.ottereview.account.entity.Account;
+import com.ssafy.ottereview.description.entity.Description;
+import com.ssafy.ottereview.preparation.dto.DescriptionInfo;
+import com.ssafy.ottereview.priority.entity.Priority;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestChildRowJdbcRepository;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.reviewer.entity.Reviewer;
+import com.ssafy.ottereview.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PR 생성 시 설명(description) 행 저장 처리량 비교 (H2 MySQL 모드, 실제 엔티티 매핑)
+ * entitySaveAll 은 이전 경로처럼 IDENTITY 키 엔티티를 트랜잭션 하나에서 persist 하고(batch_size 50 설정이어도 행마다 insert),
+ * jdbcBatch 는 운영 경로인 PullRequestChildRowJdbcRepository 로 같은 행을 배치 한 번에 저장한다.
+ * H2 는 네트워크 왕복이 없으므로 실제 MySQL 에서의 차이는 이보다 크다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChildRowInsertBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int descriptionCount;
+
+    private SingleConnectionDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private PullRequestChildRowJdbcRepository childRowRepository;
+    private Long pullRequestId;
+    private List<DescriptionInfo> descriptions;
+
+    @Setup
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:child-rows;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "",
+                true);
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, 50)
+                .applySetting(AvailableSettings.ORDER_INSERTS, true)
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(Account.class, Repo.class, User.class, PullRequest.class, Reviewer.class,
+                        Priority.class, Description.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        childRowRepository = new PullRequestChildRowJdbcRepository(jdbcTemplate, sessionFactory);
+
+        pullRequestId = sessionFactory.fromTransaction(session -> {
+            Account account = Account.builder()
+                    .installationId(78299031L)
+                    .build();
+            session.persist(account);
+            Repo repo = Repo.builder()
+                    .repoId(1032206976L)
+                    .fullName("kangboom/ottereview-test")
+                    .account(account)
+                    .build();
+            session.persist(repo);
+            User author = User.builder()
+                    .githubId(103165796L)
+                    .githubUsername("kangboom")
+                    .type("User")
+                    .build();
+            session.persist(author);
+            PullRequest pullRequest = PullRequest.builder()
+                    .githubId(2723459181L)
+                    .githubPrNumber(1)
+                    .title("feat: 리뷰 화면 개선")
+                    .state("OPEN")
+                    .base("main")
+                    .head("feature/1")
+                    .merged(false)
+                    .githubUpdatedAt(LocalDateTime.now())
+                    .repo(repo)
+                    .author(author)
+                    .build();
+            session.persist(pullRequest);
+            return pullRequest.getId();
+        });
+
+        descriptions = new ArrayList<>(descriptionCount);
+        for (int i = 0; i < descriptionCount; i++) {
+            descriptions.add(DescriptionInfo.builder()
+                    .path("src/main/java/com/example/Generated" + (i % 50) + ".java")
+                    .position(i)
+                    .recordKey("record-" + i)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteDescriptions() {
+        sessionFactory.inTransaction(session -> session.createMutationQuery("delete from Description")
+                .executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void entitySaveAll() {
+        sessionFactory.inTransaction(session -> {
+            PullRequest pullRequest = session.getReference(PullRequest.class, pullRequestId);
+            for (DescriptionInfo description : descriptions) {
+                session.persist(Description.builder()
+                        .pullRequest(pullRequest)
+                        .path(description.getPath())
+                        .position(description.getPosition())
+                        .recordKey(description.getRecordKey())
+                        .build());
+            }
+        });
+    }
+
+    @Benchmark
+    public void jdbcBatch() {
+        transactionTemplate.executeWithoutResult(
+                status -> childRowRepository.insertDescriptions(pullRequestId, descriptions));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ChildRowInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
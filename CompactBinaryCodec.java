@@ -0,0 +1,75 @@
+package com.ssafy.ottereview.preparation.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 에 저장할 객체를 Smile(바이너리 JSON) + deflate 로 압축 직렬화하는 코덱
+ * 첫 바이트에 포맷 버전을 기록해 이후 포맷이 바뀌어도 이전 값을 구분할 수 있게 한다.
+ */
+@Component
+public class CompactBinaryCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory())
+            .findAndRegisterModules()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        bytes.write(FORMAT_VERSION);
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream out = new DeflaterOutputStream(bytes, deflater, BUFFER_SIZE)) {
+            smileMapper.writeValue(out, value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode " + value.getClass()
+                    .getSimpleName(), e);
+        } finally {
+            deflater.end();
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 저장할 때와 같은 설정의 mapper 로 객체를 트리로 바꾼다. (일부 필드를 빼고 encode 할 때 사용)
+     */
+    public JsonNode toTree(Object value) {
+        return smileMapper.valueToTree(value);
+    }
+
+    public <T> T decode(byte[] encoded, Class<T> type) {
+        if (encoded == null || encoded.length == 0) {
+            return null;
+        }
+
+        if (encoded[0] != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported binary format version: " + encoded[0]);
+        }
+
+        Inflater inflater = new Inflater();
+        try (InputStream in = new InflaterInputStream(
+                new ByteArrayInputStream(encoded, 1, encoded.length - 1), inflater, BUFFER_SIZE)) {
+            return smileMapper.readValue(in, type);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to decode " + type.getSimpleName(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.ssafy.ottereview.preparation.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.ottereview.preparation.dto.DescriptionInfo;
+import com.ssafy.ottereview.preparation.dto.FileChangeInfo;
+import com.ssafy.ottereview.preparation.dto.PreparationResult;
+import com.ssafy.ottereview.preparation.dto.PriorityInfo;
+import com.ssafy.ottereview.preparation.dto.UserInfo;
+import com.ssafy.ottereview.preparation.util.CompactBinaryCodec;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PR 준비 정보를 Redis 에 저장하는 저장소
+ * 커밋/파일/hunk 를 담은 본문은 압축 바이너리 값으로, 작성자가 편집하는 메타데이터(제목, 본문, 리뷰어, 우선순위 등)는
+ * 별도 Hash 로 저장해 편집 시 본문 전체를 다시 쓰지 않고 필드 단위 HSET 만 수행한다.
+ * 지연 모드(preparation.files.lazy)에서는 파일별 patch/hunk 를 파일 이름 단위 Hash 로 따로 저장해 본문 크기를 줄인다.
+ * 지연 모드의 준비 정보 조회 응답에는 파일 patch/hunk 가 빠지므로, 파일별 조회 API 를 쓰는 클라이언트에 맞춰 켠다. (기본 꺼짐)
+ * Redis 읽기/쓰기 시간은 preparation.redis 로, 저장한 본문 크기는 preparation.redis.payload 로 기록한다.
+ */
+@Slf4j
+@Repository
+public class CompactPreparationRedisRepository {
+
+    public static final String FIELD_TITLE = "title";
+    public static final String FIELD_BODY = "body";
+    public static final String FIELD_SUMMARY = "summary";
+    public static final String FIELD_REVIEWERS = "reviewers";
+    public static final String FIELD_DESCRIPTIONS = "descriptions";
+    public static final String FIELD_PRIORITIES = "priorities";
+
+    private static final String KEY_PREFIX = "prepare-bin:";
+    private static final String META_SUFFIX = ":meta";
+    private static final String FILES_SUFFIX = ":files";
+
+    // 미리 준비만 하고 아직 작성자가 열어 보지 않은 준비 정보 표시 (메타데이터 Hash 필드)
+    private static final String FIELD_PREWARMED = "prewarmed";
+
+    // 본문에 파일 patch/hunk 를 그대로 담았는지(eager), 파일별 Hash 로 뺐는지(lazy) 표시 (메타데이터 Hash 필드)
+    private static final String FIELD_FILES_MODE = "filesMode";
+    private static final String FILES_MODE_LAZY = "lazy";
+    private static final String FILES_MODE_EAGER = "eager";
+
+    // 지연 모드에서 본문의 파일 목록에서 빼고 파일별로 따로 저장하는 필드
+    private static final String[] FILE_CONTENT_FIELDS = {"patch", "diffHunks"};
+
+    private static final String METRIC_NAME = "preparation.redis";
+
+    // 읽은 뒤 파일 값이 바뀌지 않았을 때만 교체한다. (그 사이 준비 정보가 다시 저장된 경우 덮어쓰지 않는다)
+    private static final RedisScript<Long> REPLACE_FILE_IF_UNCHANGED = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+                redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CompactBinaryCodec codec;
+    private final PreparationNearCache nearCache;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final boolean lazyFiles;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary payloadSize;
+
+    public CompactPreparationRedisRepository(RedisTemplate<String, byte[]> binaryRedisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            CompactBinaryCodec codec,
+            PreparationNearCache nearCache,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${preparation.ttl:PT24H}") Duration ttl,
+            @Value("${preparation.files.lazy:false}") boolean lazyFiles) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.codec = codec;
+        this.nearCache = nearCache;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lazyFiles = lazyFiles;
+        this.meterRegistry = meterRegistry;
+        this.payloadSize = DistributionSummary.builder(METRIC_NAME + ".payload")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 준비 정보 본문을 저장한다. 작성자가 이미 입력한 메타데이터는 유지한다.
+     */
+    public void savePrepareInfo(Long repoId, PreparationResult preparationResult) {
+        savePrepareInfo(repoId, preparationResult, ttl);
+    }
+
+    /**
+     * 준비 정보 본문을 지정한 TTL 로 저장한다. (미리 준비한 정보처럼 열어 보지 않을 수도 있는 경우)
+     */
+    public void savePrepareInfo(Long repoId, PreparationResult preparationResult, Duration ttl) {
+        timer("save").record(() -> save(repoId, preparationResult, ttl));
+    }
+
+    /**
+     * 미리 준비한 정보를 저장한다. 작성자가 이미 열어 본 준비 정보는 기본 TTL 로 저장하고,
+     * 그렇지 않으면 prewarmTtl 로 저장한 뒤 미리 준비 표시를 남겨 첫 조회 때 기본 TTL 로 늘린다.
+     */
+    public void savePrewarmedPrepareInfo(Long repoId, PreparationResult preparationResult, Duration prewarmTtl) {
+        String key = generateKey(repoId, preparationResult.getSource(), preparationResult.getTarget());
+        if (isOpened(key)) {
+            savePrepareInfo(repoId, preparationResult);
+            return;
+        }
+
+        savePrepareInfo(repoId, preparationResult, prewarmTtl);
+        timer("mark_prewarmed").record(() -> {
+            stringRedisTemplate.opsForHash()
+                    .put(key + META_SUFFIX, FIELD_PREWARMED, "1");
+            stringRedisTemplate.expire(key + META_SUFFIX, prewarmTtl);
+        });
+    }
+
+    private void save(Long repoId, PreparationResult preparationResult, Duration ttl) {
+        String key = generateKey(repoId, preparationResult.getSource(), preparationResult.getTarget());
+
+        // 지연 모드에서는 파일별 patch/hunk 를 별도 Hash 에 두고 본문에는 파일 메타데이터만 남긴다.
+        byte[] encoded;
+        String filesMode;
+        if (lazyFiles && preparationResult.getFiles() != null && !preparationResult.getFiles()
+                .isEmpty()) {
+            saveFileChanges(key + FILES_SUFFIX, preparationResult.getFiles(), ttl);
+            encoded = codec.encode(withoutFileContents(preparationResult));
+            filesMode = FILES_MODE_LAZY;
+        } else {
+            binaryRedisTemplate.delete(key + FILES_SUFFIX);
+            encoded = codec.encode(preparationResult);
+            filesMode = FILES_MODE_EAGER;
+        }
+
+        binaryRedisTemplate.opsForValue()
+                .set(key, encoded, ttl);
+        stringRedisTemplate.opsForHash()
+                .put(key + META_SUFFIX, FIELD_FILES_MODE, filesMode);
+        stringRedisTemplate.expire(key + META_SUFFIX, ttl);
+        nearCache.invalidate(key);
+        payloadSize.record(encoded.length);
+
+        log.debug("PR 준비 정보 저장, key: {}, size: {} bytes", key, encoded.length);
+    }
+
+    /**
+     * 준비 정보를 조회한다. 같은 노드에서 반복 조회하면 역직렬화 없이 near cache 에서 반환한다.
+     * 반환된 객체는 캐시와 공유되므로 호출 측에서 수정하지 않는다.
+     */
+    public PreparationResult getPrepareInfo(Long repoId, String source, String target) {
+        String key = generateKey(repoId, source, target);
+        return nearCache.get(key, () -> load(key));
+    }
+
+    /**
+     * 준비 정보 본문을 읽고 메타데이터를 덮어써서 반환한다. (near cache 에 없을 때만 호출되므로 Redis 읽기만 기록된다)
+     */
+    private PreparationResult load(String key) {
+        return timer("load").record(() -> loadFromRedis(key));
+    }
+
+    private PreparationResult loadFromRedis(String key) {
+        PreparationResult preparationResult = codec.decode(binaryRedisTemplate.opsForValue()
+                .get(key), PreparationResult.class);
+        if (preparationResult == null) {
+            return null;
+        }
+
+        Map<Object, Object> metadata = stringRedisTemplate.opsForHash()
+                .entries(key + META_SUFFIX);
+        if (metadata.containsKey(FIELD_PREWARMED)) {
+            promote(key);
+        }
+        applyMetadata(preparationResult, metadata);
+
+        return preparationResult;
+    }
+
+    /**
+     * 파일 하나의 patch/hunk 를 포함한 변경 정보를 조회한다. 지연 모드로 저장하지 않았으면 null 이다.
+     * 조회한 값에 resolver 를 적용하고, 다른 값을 돌려주면(미뤄 둔 hunk 파싱 등) 파일별 Hash 에 되돌려 쓴다.
+     * 조회한 뒤 준비 정보가 다시 저장돼 파일 값이 바뀌었으면 되돌려 쓰지 않는다.
+     */
+    public FileChangeInfo getFileChange(Long repoId, String source, String target, String filename,
+            UnaryOperator<FileChangeInfo> resolver) {
+        String filesKey = generateKey(repoId, source, target) + FILES_SUFFIX;
+
+        byte[] encoded = timer("load_file").record(() -> binaryRedisTemplate.<String, byte[]>opsForHash()
+                .get(filesKey, filename));
+        FileChangeInfo fileChange = codec.decode(encoded, FileChangeInfo.class);
+        if (fileChange == null) {
+            return null;
+        }
+
+        FileChangeInfo resolved = resolver.apply(fileChange);
+        if (resolved != fileChange) {
+            byte[] resolvedEncoded = codec.encode(resolved);
+            timer("update_file").record(() -> binaryRedisTemplate.execute(REPLACE_FILE_IF_UNCHANGED, List.of(filesKey),
+                    filename.getBytes(StandardCharsets.UTF_8), encoded, resolvedEncoded));
+            payloadSize.record(resolvedEncoded.length);
+        }
+        return resolved;
+    }
+
+    public boolean exists(Long repoId, String source, String target) {
+        String key = generateKey(repoId, source, target);
+        return Boolean.TRUE.equals(timer("exists").record(() -> binaryRedisTemplate.hasKey(key)));
+    }
+
+    /**
+     * 본문의 파일 목록에 patch/hunk 가 그대로 들어 있는지(eager 로 저장했는지) 확인한다.
+     * 지연 모드로 저장한 본문의 파일 목록은 patch/hunk 가 빠져 있으므로 파일 내용 조회에 쓰면 안 된다.
+     */
+    public boolean hasInlineFileContents(Long repoId, String source, String target) {
+        String metaKey = generateKey(repoId, source, target) + META_SUFFIX;
+        return FILES_MODE_EAGER.equals(timer("files_mode").record(() -> stringRedisTemplate.<String, String>opsForHash()
+                .get(metaKey, FIELD_FILES_MODE)));
+    }
+
+    /**
+     * 메타데이터 필드만 갱신한다. 문자열이 아닌 값은 JSON 으로 저장한다.
+     *
+     * @param fields 갱신할 필드 (FIELD_* 상수 → 값)
+     */
+    public void updateMetadata(Long repoId, String source, String target, Map<String, Object> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        String metaKey = generateKey(repoId, source, target) + META_SUFFIX;
+
+        Map<String, String> serialized = new HashMap<>();
+        fields.forEach((field, value) -> serialized.put(field, serialize(value)));
+
+        timer("update_metadata").record(() -> {
+            stringRedisTemplate.opsForHash()
+                    .putAll(metaKey, serialized);
+            stringRedisTemplate.expire(metaKey, ttl);
+        });
+        nearCache.invalidate(generateKey(repoId, source, target));
+    }
+
+    /**
+     * 본문이 있고 미리 준비 표시가 없으면 작성자가 열어 본(직접 만든) 준비 정보이다.
+     */
+    private boolean isOpened(String key) {
+        return timer("exists").record(() -> Boolean.TRUE.equals(binaryRedisTemplate.hasKey(key))
+                && !stringRedisTemplate.opsForHash()
+                .hasKey(key + META_SUFFIX, FIELD_PREWARMED));
+    }
+
+    /**
+     * 미리 준비한 정보를 작성자가 처음 열면 표시를 지우고 본문, 파일, 메타데이터 모두 기본 TTL 로 늘린다.
+     */
+    private void promote(String key) {
+        stringRedisTemplate.opsForHash()
+                .delete(key + META_SUFFIX, FIELD_PREWARMED);
+        binaryRedisTemplate.expire(key, ttl);
+        binaryRedisTemplate.expire(key + FILES_SUFFIX, ttl);
+        stringRedisTemplate.expire(key + META_SUFFIX, ttl);
+        log.debug("미리 준비한 PR 준비 정보 첫 조회, TTL 연장 key: {}", key);
+    }
+
+    public void delete(Long repoId, String source, String target) {
+        String key = generateKey(repoId, source, target);
+        timer("delete").record(() -> binaryRedisTemplate.delete(List.of(key, key + META_SUFFIX, key + FILES_SUFFIX)));
+        nearCache.invalidate(key);
+    }
+
+    private void saveFileChanges(String filesKey, List<FileChangeInfo> files, Duration ttl) {
+        Map<String, byte[]> encodedFiles = new HashMap<>(files.size() * 2);
+        for (FileChangeInfo file : files) {
+            encodedFiles.put(file.getFilename(), codec.encode(file));
+        }
+
+        // 이전 비교의 파일이 남지 않도록 임시 키에 모두 쓴 뒤 RENAME 으로 한 번에 교체한다.
+        // (삭제 후 쓰면 그 사이 조회가 파일을 찾지 못한다)
+        String tempKey = filesKey + ":tmp:" + UUID.randomUUID();
+        binaryRedisTemplate.opsForHash()
+                .putAll(tempKey, encodedFiles);
+        binaryRedisTemplate.expire(tempKey, ttl);
+        binaryRedisTemplate.rename(tempKey, filesKey);
+    }
+
+    /**
+     * 파일 목록에서 patch/hunk 를 뺀 본문 트리를 만든다. 호출 측의 PreparationResult 는 변경하지 않는다.
+     * 본문을 읽는 codec 과 같은 mapper 로 만들어 두 경로의 직렬화 설정이 같게 한다.
+     */
+    private JsonNode withoutFileContents(PreparationResult preparationResult) {
+        ObjectNode tree = (ObjectNode) codec.toTree(preparationResult);
+        JsonNode files = tree.get("files");
+        if (files != null) {
+            for (JsonNode file : files) {
+                if (file instanceof ObjectNode fileNode) {
+                    fileNode.remove(Arrays.asList(FILE_CONTENT_FIELDS));
+                }
+            }
+        }
+        return tree;
+    }
+
+    private void applyMetadata(PreparationResult preparationResult, Map<Object, Object> metadata) {
+        if (metadata.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (metadata.get(FIELD_TITLE) instanceof String title) {
+                preparationResult.enrollTitle(title);
+            }
+            if (metadata.get(FIELD_BODY) instanceof String body) {
+                preparationResult.enrollBody(body);
+            }
+            if (metadata.get(FIELD_SUMMARY) instanceof String summary) {
+                preparationResult.enrollSummary(summary);
+            }
+            if (metadata.get(FIELD_REVIEWERS) instanceof String reviewers) {
+                preparationResult.enrollReviewers(objectMapper.readValue(reviewers, new TypeReference<List<UserInfo>>() {
+                }));
+            }
+            if (metadata.get(FIELD_DESCRIPTIONS) instanceof String descriptions) {
+                preparationResult.enrollDescriptions(
+                        objectMapper.readValue(descriptions, new TypeReference<List<DescriptionInfo>>() {
+                        }));
+            }
+            if (metadata.get(FIELD_PRIORITIES) instanceof String priorities) {
+                preparationResult.enrollPriorities(
+                        objectMapper.readValue(priorities, new TypeReference<List<PriorityInfo>>() {
+                        }));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read preparation metadata", e);
+        }
+    }
+
+    private String serialize(Object value) {
+        if (value instanceof String str) {
+            return str;
+        }
+
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to write preparation metadata", e);
+        }
+    }
+
+    private Timer timer(String operation) {
+        return meterRegistry.timer(METRIC_NAME, "operation", operation);
+    }
+
+    private String generateKey(Long repoId, String source, String target) {
+        return KEY_PREFIX + repoId + ":" + source + ":" + target;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.ottereview.preparation.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.kohsuke.github.GHCompare;
+
+/**
+ * 두 커밋(SHA) 사이 compare 결과를 변환해 둔 값
+ * 같은 SHA 쌍의 compare 결과는 바뀌지 않으므로 SHA 쌍을 키로 재사용한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompareSnapshot {
+
+    private String baseSha;
+    private String headSha;
+    private String url;
+    private String htmlUrl;
+    private String permalinkUrl;
+    private String diffUrl;
+    private String patchUrl;
+    private int aheadBy;
+    private int behindBy;
+    private int totalCommits;
+    private GHCompare.Status status;
+    private CommitInfo baseCommit;
+    private CommitInfo mergeBaseCommit;
+    private List<CommitInfo> commits;
+    private List<FileChangeInfo> files;
+}
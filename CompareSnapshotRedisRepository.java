@@ -0,0 +1,50 @@
+package com.ssafy.ottereview.preparation.repository;
+
+import com.ssafy.ottereview.preparation.dto.CompareSnapshot;
+import com.ssafy.ottereview.preparation.util.CompactBinaryCodec;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * SHA 쌍을 키로 compare 변환 결과를 저장하는 저장소 (content-addressed)
+ * 값이 바뀌지 않으므로 갱신/무효화 없이 TTL 로만 정리한다.
+ */
+@Slf4j
+@Repository
+public class CompareSnapshotRedisRepository {
+
+    private static final String KEY_PREFIX = "compare:";
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final CompactBinaryCodec codec;
+    private final Duration ttl;
+
+    public CompareSnapshotRedisRepository(RedisTemplate<String, byte[]> binaryRedisTemplate,
+            CompactBinaryCodec codec,
+            @Value("${preparation.compare-cache.ttl:P7D}") Duration ttl) {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.codec = codec;
+        this.ttl = ttl;
+    }
+
+    public CompareSnapshot get(Long repoId, String baseSha, String headSha) {
+        return codec.decode(binaryRedisTemplate.opsForValue()
+                .get(generateKey(repoId, baseSha, headSha)), CompareSnapshot.class);
+    }
+
+    public void save(Long repoId, CompareSnapshot snapshot) {
+        String key = generateKey(repoId, snapshot.getBaseSha(), snapshot.getHeadSha());
+        byte[] encoded = codec.encode(snapshot);
+
+        binaryRedisTemplate.opsForValue()
+                .set(key, encoded, ttl);
+        log.debug("compare 결과 저장, key: {}, size: {} bytes", key, encoded.length);
+    }
+
+    private String generateKey(Long repoId, String baseSha, String headSha) {
+        return KEY_PREFIX + repoId + ":" + baseSha + ":" + headSha;
+    }
+}
@@ -0,0 +1,157 @@
+package com.ssafy.ottereview.preparation.service;
+
+import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.preparation.dto.CommitInfo;
+import com.ssafy.ottereview.preparation.dto.CompareSnapshot;
+import com.ssafy.ottereview.preparation.repository.CompareSnapshotRedisRepository;
+import com.ssafy.ottereview.repo.entity.Repo;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHCompare.Commit;
+import org.kohsuke.github.GHRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * 브랜치 쌍의 compare 결과를 SHA 쌍 기준으로 재사용하는 서비스
+ * 브랜치 head SHA 만 조회한 뒤, 같은 SHA 쌍으로 변환해 둔 결과가 있으면 compare 호출과 변환을 모두 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompareSnapshotService {
+
+    private final GithubApiClient githubApiClient;
+    private final FileChangeConverter fileChangeConverter;
+    private final CompareSnapshotRedisRepository compareSnapshotRedisRepository;
+
+    /**
+     * target(base) ← source(head) 브랜치의 compare 결과를 조회한다.
+     */
+    public CompareSnapshot getSnapshot(Repo repo, String target, String source) {
+        Long installationId = repo.getAccount()
+                .getInstallationId();
+        String fullName = repo.getFullName();
+
+        // 1. 브랜치 head SHA 조회 (레포지토리 조회는 compare 까지 한 번만 한다)
+        GHRepository githubRepository;
+        String baseSha;
+        String headSha;
+        try {
+            githubRepository = githubApiClient.getRepository(installationId, fullName);
+            baseSha = githubRepository.getBranch(target)
+                    .getSHA1();
+            headSha = githubRepository.getBranch(source)
+                    .getSHA1();
+        } catch (IOException e) {
+            // SHA 를 알 수 없으면 캐시 없이 브랜치 이름으로 비교한다.
+            log.warn("브랜치 head 조회 실패, 캐시 없이 비교합니다. repo: {}, {}...{}, 원인: {}", fullName, target, source,
+                    e.getMessage());
+            return convert(githubApiClient.getCompare(installationId, fullName, target, source), null, null);
+        }
+
+        // 2. 같은 SHA 쌍의 변환 결과가 있으면 재사용
+        CompareSnapshot cached = compareSnapshotRedisRepository.get(repo.getId(), baseSha, headSha);
+        if (cached != null) {
+            log.debug("compare 캐시 사용, repo: {}, {}...{}", fullName, baseSha, headSha);
+            return cached;
+        }
+
+        // 3. SHA 로 비교해 키와 내용이 항상 일치하게 한다. 위에서 얻은 레포지토리로 바로 compare 를 호출한다.
+        GHCompare compare;
+        try {
+            compare = githubRepository.getCompare(baseSha, headSha);
+        } catch (IOException e) {
+            throw new IllegalStateException("compare 조회 실패, repo: " + fullName + ", " + baseSha + "..." + headSha, e);
+        }
+        CompareSnapshot snapshot = convert(compare, baseSha, headSha);
+        compareSnapshotRedisRepository.save(repo.getId(), snapshot);
+
+        return snapshot;
+    }
+
+    private CompareSnapshot convert(GHCompare compare, String baseSha, String headSha) {
+        return CompareSnapshot.builder()
+                .baseSha(baseSha)
+                .headSha(headSha)
+                .url(compare.getUrl()
+                        .toString())
+                .htmlUrl(compare.getHtmlUrl()
+                        .toString())
+                .permalinkUrl(compare.getPermalinkUrl()
+                        .toString())
+                .diffUrl(compare.getDiffUrl()
+                        .toString())
+                .patchUrl(compare.getPatchUrl()
+                        .toString())
+                .aheadBy(compare.getAheadBy())
+                .behindBy(compare.getBehindBy())
+                .totalCommits(compare.getTotalCommits())
+                .status(compare.getStatus())
+                .baseCommit(convertToCommitInfo(compare.getBaseCommit()))
+                .mergeBaseCommit(convertToCommitInfo(compare.getMergeBaseCommit()))
+                .commits(convertCommitArray(compare.getCommits()))
+                .files(fileChangeConverter.convert(compare.getFiles()))
+                .build();
+    }
+
+    private CommitInfo convertToCommitInfo(Commit commit) {
+        if (commit == null) {
+            return null;
+        }
+
+        try {
+            return CommitInfo.builder()
+                    .sha(commit.getSHA1())
+                    .message(commit.getCommit()
+                            .getMessage())
+                    .authorName(commit.getCommit()
+                            .getAuthor()
+                            .getName())
+                    .authorEmail(commit.getCommit()
+                            .getAuthor()
+                            .getEmail())
+                    .authorDate(commit.getCommit()
+                            .getAuthor()
+                            .getDate()
+                            .toString())
+                    .committerName(commit.getCommit()
+                            .getCommitter()
+                            .getName())
+                    .committerEmail(commit.getCommit()
+                            .getCommitter()
+                            .getEmail())
+                    .committerDate(commit.getCommit()
+                            .getCommitter()
+                            .getDate()
+                            .toString())
+                    .url(commit.getUrl()
+                            .toString())
+                    .htmlUrl(commit.getHtmlUrl()
+                            .toString())
+                    .additions(commit.getLinesAdded())
+                    .deletions(commit.getLinesDeleted())
+                    .totalChanges(commit.getLinesChanged())
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed to convert commit info: " + e.getMessage(), e);
+        }
+    }
+
+    private List<CommitInfo> convertCommitArray(Commit[] commits) {
+        if (commits == null) {
+            return Collections.emptyList();
+        }
+
+        return Arrays.stream(commits)
+                .map(this::convertToCommitInfo)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
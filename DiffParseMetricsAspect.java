@@ -0,0 +1,46 @@
+package com.ssafy.ottereview.pullrequest.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * DiffUtil.parseDiffHunks 와 StreamingDiffParser.parse 의 파싱 시간과 patch 크기를 파서별로 기록한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class DiffParseMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.ssafy.ottereview.pullrequest.util.DiffUtil.parseDiffHunks(..))"
+            + " || execution(public * com.ssafy.ottereview.pullrequest.util.StreamingDiffParser.parse(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String parser = joinPoint.getSignature()
+                .getDeclaringType()
+                .getSimpleName();
+
+        // Reader 로 들어온 patch 는 크기를 미리 알 수 없으므로 시간만 기록한다.
+        Object[] args = joinPoint.getArgs();
+        if (args.length > 0 && args[0] instanceof CharSequence patch) {
+            DistributionSummary.builder("diff.parse.patch.size")
+                    .baseUnit("bytes")
+                    .tag("parser", parser)
+                    .register(meterRegistry)
+                    .record(patch.length());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            sample.stop(meterRegistry.timer("diff.parse", "parser", parser));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.ssafy.ottereview.preparation.dto.DiffHunk;
+import com.ssafy.ottereview.pullrequest.util.DiffUtil;
+import com.ssafy.ottereview.pullrequest.util.StreamingDiffParser;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 일반 크기(4KB, 64KB)와 대용량(1MB 이상) patch 에 대한 DiffUtil.parseDiffHunks 와 StreamingDiffParser 의 처리량/할당량 비교
+ * gc 프로파일러의 gc.alloc.rate.norm 값으로 호출당 할당 바이트를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiffParserBenchmark {
+
+    @Param({"4", "64", "1024", "4096"})
+    private int patchSizeKb;
+
+    private String patch;
+    private DiffUtil diffUtil;
+    private StreamingDiffParser streamingDiffParser;
+
+    @Setup
+    public void setUp() {
+        patch = BenchmarkFixtures.generatePatch(patchSizeKb * 1024);
+        diffUtil = new DiffUtil();
+        streamingDiffParser = new StreamingDiffParser();
+    }
+
+    @Benchmark
+    public List<DiffHunk> diffUtil() {
+        return diffUtil.parseDiffHunks(patch);
+    }
+
+    @Benchmark
+    public List<DiffHunk> streamingCharSequence() {
+        return streamingDiffParser.parse(patch);
+    }
+
+    @Benchmark
+    public List<DiffHunk> streamingReader() {
+        return streamingDiffParser.parse(new StringReader(patch));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DiffParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
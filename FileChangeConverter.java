@@ -0,0 +1,187 @@
+package com.ssafy.ottereview.preparation.service;
+
+import com.ssafy.ottereview.preparation.dto.DiffHunk;
+import com.ssafy.ottereview.preparation.dto.FileChangeInfo;
+import com.ssafy.ottereview.pullrequest.util.StreamingDiffParser;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * GHCommit.File 배열을 FileChangeInfo 목록으로 변환하는 컴포넌트
+ * 파일이 많으면 제한된 스레드 풀에서 병렬로 변환하되 입력 순서를 유지하고,
+ * 한 파일의 실패가 다른 파일 변환에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+public class FileChangeConverter {
+
+    private final StreamingDiffParser streamingDiffParser;
+    private final ExecutorService executor;
+    private final int parallelThreshold;
+    private final int lazyHunkThreshold;
+    private final boolean retainRawPatch;
+
+    public FileChangeConverter(StreamingDiffParser streamingDiffParser,
+            @Value("${preparation.diff.parallelism:0}") int parallelism,
+            @Value("${preparation.diff.parallel-threshold:32}") int parallelThreshold,
+            @Value("${preparation.diff.lazy-hunk-threshold:262144}") int lazyHunkThreshold,
+            @Value("${preparation.diff.retain-raw-patch:true}") boolean retainRawPatch) {
+        this.streamingDiffParser = streamingDiffParser;
+        this.parallelThreshold = parallelThreshold;
+        this.lazyHunkThreshold = lazyHunkThreshold;
+        this.retainRawPatch = retainRawPatch;
+
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime()
+                .availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "diff-parser-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public List<FileChangeInfo> convert(GHCommit.File[] changedFiles) {
+        if (changedFiles == null || changedFiles.length == 0) {
+            return Collections.emptyList();
+        }
+
+        // 파일 수가 적으면 스레드 전환 비용이 더 크므로 순차로 처리한다.
+        if (changedFiles.length < parallelThreshold) {
+            List<FileChangeInfo> fileChanges = new ArrayList<>(changedFiles.length);
+            for (GHCommit.File file : changedFiles) {
+                FileChangeInfo fileChange = convertSafely(file);
+                if (fileChange != null) {
+                    fileChanges.add(fileChange);
+                }
+            }
+            return fileChanges;
+        }
+
+        List<Callable<FileChangeInfo>> tasks = new ArrayList<>(changedFiles.length);
+        for (GHCommit.File file : changedFiles) {
+            tasks.add(() -> convertSafely(file));
+        }
+
+        try {
+            // invokeAll 은 제출 순서대로 결과를 돌려준다.
+            List<FileChangeInfo> fileChanges = new ArrayList<>(changedFiles.length);
+            for (Future<FileChangeInfo> future : executor.invokeAll(tasks)) {
+                FileChangeInfo fileChange = future.get();
+                if (fileChange != null) {
+                    fileChanges.add(fileChange);
+                }
+            }
+            return fileChanges;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            throw new IllegalStateException("파일 변경 목록 변환이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("파일 변경 목록 변환 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 파일의 hunk 목록을 반환한다. 크기 제한으로 파싱을 미뤄 둔 파일이면 이때 patch 를 파싱한다.
+     */
+    public List<DiffHunk> resolveDiffHunks(FileChangeInfo fileChange) {
+        if (fileChange.getDiffHunks() != null) {
+            return fileChange.getDiffHunks();
+        }
+
+        if (fileChange.getPatch() == null || fileChange.getPatch()
+                .isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return streamingDiffParser.parse(fileChange.getPatch());
+    }
+
+    /**
+     * 파싱을 미뤄 둔 파일이면 hunk 를 채운 새 변경 정보를, 이미 파싱됐거나 patch 가 없으면 그대로 반환한다.
+     * 반환 값을 파일별 Hash 에 되돌려 써서 다음 요청부터는 다시 파싱하지 않는다.
+     */
+    public FileChangeInfo parseDeferredHunks(FileChangeInfo fileChange) {
+        if (fileChange.getDiffHunks() != null || fileChange.getPatch() == null || fileChange.getPatch()
+                .isEmpty()) {
+            return fileChange;
+        }
+
+        FileChangeInfo.FileChangeInfoBuilder builder = FileChangeInfo.builder()
+                .filename(fileChange.getFilename())
+                .status(fileChange.getStatus())
+                .additions(fileChange.getAdditions())
+                .deletions(fileChange.getDeletions())
+                .rawUrl(fileChange.getRawUrl())
+                .blobUrl(fileChange.getBlobUrl())
+                .changes(fileChange.getChanges())
+                .diffHunks(streamingDiffParser.parse(fileChange.getPatch()));
+
+        if (retainRawPatch) {
+            builder.patch(fileChange.getPatch());
+        }
+
+        return builder.build();
+    }
+
+    private FileChangeInfo convertSafely(GHCommit.File file) {
+        try {
+            return convert(file);
+        } catch (Exception e) {
+            log.error("Error processing file change: {}", file.getFileName(), e);
+            return null;
+        }
+    }
+
+    private FileChangeInfo convert(GHCommit.File file) {
+        log.debug("파일 이름 PreviousFilename: {}", file.getFileName());
+        // GHCommit.File 객체에서 기본 정보 추출
+        FileChangeInfo.FileChangeInfoBuilder builder = FileChangeInfo.builder()
+                .filename(file.getFileName())
+                .status(file.getStatus())
+                .additions(file.getLinesAdded())
+                .deletions(file.getLinesDeleted())
+                .rawUrl(file.getRawUrl())
+                .blobUrl(file.getBlobUrl())
+                .changes(file.getLinesChanged());
+
+        String detailedPatch = file.getPatch();
+        if (detailedPatch == null || detailedPatch.isEmpty()) {
+            return builder.build();
+        }
+
+        // 기준 크기를 넘는 patch 는 hunk 파싱을 요청 시점으로 미루고 원본만 보관한다.
+        if (detailedPatch.length() > lazyHunkThreshold) {
+            return builder.patch(detailedPatch)
+                    .build();
+        }
+
+        List<DiffHunk> diffHunks = streamingDiffParser.parse(detailedPatch);
+        builder.diffHunks(diffHunks);
+
+        // hunk 로 파싱한 뒤에는 원본 patch 를 보관하지 않을 수 있다.
+        if (retainRawPatch) {
+            builder.patch(detailedPatch);
+        }
+
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.ssafy.ottereview.preparation.dto.FileChangeInfo;
+import com.ssafy.ottereview.preparation.service.FileChangeConverter;
+import com.ssafy.ottereview.pullrequest.util.StreamingDiffParser;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.kohsuke.github.GHCommit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * PR 준비 시 compare 파일 목록(GHCommit.File[])을 FileChangeInfo 로 변환하는 비용 측정
+ * 파일 10/1k/10k 개의 compare 응답에 대해 순차 변환과 병렬 변환(기본 기준 32 개)을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FileChangeConverterBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int fileCount;
+
+    // 32 는 운영 기본값, Integer.MAX_VALUE 는 항상 순차 변환
+    @Param({"32", "2147483647"})
+    private int parallelThreshold;
+
+    private GHCommit.File[] files;
+    private FileChangeConverter converter;
+
+    @Setup
+    public void setUp() {
+        files = BenchmarkFixtures.compareFiles(fileCount);
+        converter = new FileChangeConverter(new StreamingDiffParser(), 0, parallelThreshold, 262144, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        converter.shutdown();
+    }
+
+    @Benchmark
+    public List<FileChangeInfo> convert() {
+        return converter.convert(files);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FileChangeConverterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
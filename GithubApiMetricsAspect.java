@@ -0,0 +1,104 @@
+package com.ssafy.ottereview.githubapp.metrics;
+
+import com.ssafy.ottereview.common.metrics.MetricTagLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHObject;
+import org.kohsuke.github.GitHub;
+import org.springframework.stereotype.Component;
+
+/**
+ * GithubApiClient 의 모든 public 메서드 호출 시간을 메서드/설치/레포지토리/결과 태그로 기록한다.
+ * GithubApiClient 메서드는 (installationId, repositoryFullName, ...) 순서로 인자를 받으므로 앞의 두 인자를 태그로 쓴다.
+ * 호출이 끝나면 응답에 실려 온 rate limit 도 함께 기록한다. 반환값(GitHub 객체, 그 목록, GHCompare)에서 GitHub 클라이언트를 찾고,
+ * DTO 를 반환하거나 실패한 호출은 같은 설치에서 마지막으로 본 클라이언트의 값을 기록한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class GithubApiMetricsAspect {
+
+    private static final String METRIC_NAME = "github.api.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final MetricTagLimiter metricTagLimiter;
+    private final GithubRateLimitMetrics githubRateLimitMetrics;
+
+    // 설치별로 마지막으로 본 GitHub 클라이언트 (반환값에서 클라이언트를 찾을 수 없는 호출의 rate limit 기록용)
+    private final Map<Long, GitHub> lastClients = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.ssafy.ottereview.githubapp.client.GithubApiClient.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        Long installationId = args.length > 0 && args[0] instanceof Long id ? id : null;
+        String repositoryFullName = args.length > 1 && args[1] instanceof String name ? name : null;
+
+        Tags tags = Tags.of("method", joinPoint.getSignature()
+                        .getName())
+                .and("installation", metricTagLimiter.limit("installation", installationId))
+                .and("repo", metricTagLimiter.limit("repo", repositoryFullName));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(meterRegistry.timer(METRIC_NAME, tags.and("outcome", "success", "exception", "none")));
+            recordRateLimit(installationId, result);
+            return result;
+        } catch (Throwable e) {
+            sample.stop(meterRegistry.timer(METRIC_NAME, tags.and("outcome", "error", "exception", e.getClass()
+                    .getSimpleName())));
+            recordRateLimit(installationId, null);
+            throw e;
+        }
+    }
+
+    private void recordRateLimit(Long installationId, Object result) {
+        if (installationId == null) {
+            return;
+        }
+
+        try {
+            GitHub client = clientOf(result);
+            if (client != null) {
+                lastClients.put(installationId, client);
+            } else {
+                client = lastClients.get(installationId);
+            }
+
+            if (client != null) {
+                githubRateLimitMetrics.record(installationId, client.lastRateLimit());
+            }
+        } catch (RuntimeException e) {
+            // 메트릭 기록 실패로 GitHub 호출을 실패시키지 않는다.
+            log.debug("GitHub rate limit 기록 실패, installation: {}", installationId, e);
+        }
+    }
+
+    /**
+     * 반환값을 만든 GitHub 클라이언트. 목록은 첫 요소에서 찾고, 찾을 수 없으면 null 이다.
+     */
+    private GitHub clientOf(Object result) {
+        if (result instanceof GHObject githubObject) {
+            return githubObject.getRoot();
+        }
+        if (result instanceof GHCompare compare) {
+            return compare.getRoot();
+        }
+        if (result instanceof Collection<?> results && !results.isEmpty()) {
+            return clientOf(results.iterator()
+                    .next());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.ottereview.githubapp.client;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서로 독립적인 GitHub API 호출을 가상 스레드에서 동시에 실행하는 실행기
+ * 호출마다 타임아웃을 두고, 실패한 호출은 전체 요청을 실패시키지 않고 null 로 돌려준다.
+ * TaskDecorator 빈이 있으면 호출 스레드의 컨텍스트를 넘기도록 작업마다 적용한다.
+ */
+@Slf4j
+@Component
+public class GithubCallExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Executor decoratedExecutor;
+
+    public GithubCallExecutor(ObjectProvider<TaskDecorator> taskDecorator) {
+        TaskDecorator decorator = taskDecorator.getIfUnique(() -> task -> task);
+        this.decoratedExecutor = task -> executor.execute(decorator.decorate(task));
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> call, Duration timeout) {
+        return CompletableFuture.supplyAsync(call, decoratedExecutor)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 호출 결과를 기다리고, 실패하거나 시간이 초과되면 null 을 반환한다.
+     *
+     * @param future 비동기 호출
+     * @param label  로그에 남길 호출 이름
+     */
+    public <T> T joinOrNull(CompletableFuture<T> future, String label) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("[GitHub 호출 시간 초과] {}", label);
+            } else {
+                log.warn("[GitHub 호출 실패] {}: {}", label, e.getCause()
+                        .getMessage(), e.getCause());
+            }
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
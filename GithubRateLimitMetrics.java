@@ -0,0 +1,80 @@
+package com.ssafy.ottereview.githubapp.metrics;
+
+import com.ssafy.ottereview.common.metrics.MetricTagLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.kohsuke.github.GHRateLimit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설치(installation)별 GitHub rate limit 잔량 gauge
+ * GitHub 응답에 실려 온 마지막 rate limit 값을 기록만 하므로 rate limit 조회 API 를 따로 호출하지 않는다.
+ * 기록한 값은 PR 가져오기의 rate limit 예산 확인에도 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GithubRateLimitMetrics {
+
+    private static final String TAG_INSTALLATION = "installation";
+
+    private final MeterRegistry meterRegistry;
+    private final MetricTagLimiter metricTagLimiter;
+    private final Map<Long, RateLimitState> states = new ConcurrentHashMap<>();
+
+    // gauge 태그 제한과 관계없이 모든 설치의 마지막 값을 보관한다.
+    private final Map<Long, GHRateLimit> lastRateLimits = new ConcurrentHashMap<>();
+
+    public void record(Long installationId, GHRateLimit rateLimit) {
+        if (installationId == null || rateLimit == null) {
+            return;
+        }
+
+        lastRateLimits.put(installationId, rateLimit);
+
+        // 서로 다른 설치의 잔량을 하나의 gauge 로 합칠 수 없으므로 제한을 넘은 설치는 기록하지 않는다.
+        if (!states.containsKey(installationId) && !metricTagLimiter.admits(TAG_INSTALLATION, installationId)) {
+            return;
+        }
+
+        RateLimitState state = states.computeIfAbsent(installationId, this::register);
+        state.remaining.set(rateLimit.getRemaining());
+        state.limit.set(rateLimit.getLimit());
+        state.resetEpochSeconds.set(rateLimit.getResetEpochSeconds());
+    }
+
+    /**
+     * 설치의 마지막 rate limit. 아직 GitHub 응답을 받지 못했으면 null 이다.
+     */
+    public GHRateLimit lastRateLimit(Long installationId) {
+        return installationId != null ? lastRateLimits.get(installationId) : null;
+    }
+
+    private RateLimitState register(Long installationId) {
+        RateLimitState state = new RateLimitState();
+        String installation = installationId.toString();
+
+        Gauge.builder("github.rate_limit.remaining", state.remaining, AtomicLong::get)
+                .description("GitHub 응답 기준 남은 core rate limit")
+                .tag(TAG_INSTALLATION, installation)
+                .register(meterRegistry);
+        Gauge.builder("github.rate_limit.limit", state.limit, AtomicLong::get)
+                .tag(TAG_INSTALLATION, installation)
+                .register(meterRegistry);
+        Gauge.builder("github.rate_limit.reset", state.resetEpochSeconds, AtomicLong::get)
+                .description("rate limit 이 초기화되는 시각 (epoch seconds)")
+                .tag(TAG_INSTALLATION, installation)
+                .register(meterRegistry);
+        return state;
+    }
+
+    private static final class RateLimitState {
+
+        private final AtomicLong remaining = new AtomicLong(-1);
+        private final AtomicLong limit = new AtomicLong(-1);
+        private final AtomicLong resetEpochSeconds = new AtomicLong();
+    }
+}
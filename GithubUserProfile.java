@@ -0,0 +1,24 @@
+package com.ssafy.ottereview.user.dto;
+
+import java.io.IOException;
+import org.kohsuke.github.GHUser;
+
+/**
+ * 신규 사용자 등록에 필요한 GitHub 사용자 정보
+ * 웹훅 DTO 처럼 GHUser 가 아닌 payload 에서도 만들 수 있도록 분리한다.
+ */
+public record GithubUserProfile(Long githubId, String login, String email, String type, String avatarUrl) {
+
+    public static GithubUserProfile from(GHUser ghUser) {
+        try {
+            return new GithubUserProfile(ghUser.getId(),
+                    ghUser.getLogin(),
+                    ghUser.getEmail(),
+                    ghUser.getType(),
+                    ghUser.getAvatarUrl() != null ? ghUser.getAvatarUrl()
+                            .toString() : null);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read GitHub user: " + ghUser.getLogin(), e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.ssafy.ottereview.user.service;
+
+import com.ssafy.ottereview.user.dto.GithubUserProfile;
+import com.ssafy.ottereview.user.entity.User;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHUser;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * GitHub ID 로 사용자를 일괄 조회하고, 없는 사용자는 한 번에 등록하는 서비스
+ * 사용자마다 findByGithubId → save 를 반복하던 N+1 왕복을 IN 조회 한 번과 배치 insert 한 번으로 줄인다.
+ * 여러 스레드/노드가 같은 사용자를 동시에 등록해도 users.github_id 유니크 인덱스와
+ * ON DUPLICATE KEY 로 한 행만 남으므로 애플리케이션 락을 쓰지 않는다.
+ * 등록은 짧은 트랜잭션으로 먼저 커밋하므로 resolve* 는 호출 측 트랜잭션 밖에서 호출하고,
+ * 트랜잭션 안에서 영속 엔티티가 필요하면 findAllByGithubIds 로 다시 조회한다.
+ */
+@Slf4j
+@Service
+public class GithubUserResolver {
+
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    private static final String INSERT_USER_SQL = """
+            insert into users (github_id, github_username, github_email, type, profile_image_url, reward_points, user_grade)
+            values (?, ?, ?, ?, ?, 0, 'BASIC')
+            on duplicate key update github_id = github_id
+            """;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate registrationTransaction;
+
+    public GithubUserResolver(EntityManager entityManager,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.registrationTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * GHUser 목록을 GitHub ID 기준 사용자 Map 으로 변환하는 메서드
+     * 신규 사용자의 상세 정보(email 등)는 실제로 등록이 필요할 때만 GitHub 에서 읽는다.
+     */
+    public Map<Long, User> resolveAll(Collection<GHUser> ghUsers) {
+        Map<Long, Supplier<GithubUserProfile>> profiles = new LinkedHashMap<>();
+        for (GHUser ghUser : ghUsers) {
+            profiles.putIfAbsent(ghUser.getId(), () -> GithubUserProfile.from(ghUser));
+        }
+        return resolve(profiles);
+    }
+
+    /**
+     * 웹훅 payload 등에서 만든 사용자 정보 목록을 GitHub ID 기준 사용자 Map 으로 변환하는 메서드
+     */
+    public Map<Long, User> resolveAllProfiles(Collection<GithubUserProfile> githubUserProfiles) {
+        Map<Long, Supplier<GithubUserProfile>> profiles = new LinkedHashMap<>();
+        for (GithubUserProfile profile : githubUserProfiles) {
+            profiles.putIfAbsent(profile.githubId(), () -> profile);
+        }
+        return resolve(profiles);
+    }
+
+    public User resolveProfile(GithubUserProfile githubUserProfile) {
+        return resolveAllProfiles(List.of(githubUserProfile)).get(githubUserProfile.githubId());
+    }
+
+    /**
+     * 이미 등록된 사용자를 GitHub ID 기준 Map 으로 조회하는 메서드
+     * 호출 측 트랜잭션에 참여하므로 resolve* 로 등록을 마친 뒤 트랜잭션 안에서 영속 엔티티가 필요할 때 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, User> findAllByGithubIds(Collection<Long> githubIds) {
+        return findByGithubIds(githubIds);
+    }
+
+    private Map<Long, User> resolve(Map<Long, Supplier<GithubUserProfile>> profiles) {
+        if (profiles.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        // 트랜잭션 안에서 등록하면 커넥션을 하나 더 잡고, 다른 트랜잭션이 먼저 등록한 행이 스냅샷에 보이지 않는다.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("GitHub 사용자 등록은 트랜잭션 밖에서 호출해야 합니다.");
+        }
+
+        // 1. 기존 사용자를 IN 조회로 한 번에 가져온다.
+        Map<Long, User> resolved = findByGithubIds(profiles.keySet());
+        if (resolved.size() == profiles.size()) {
+            return resolved;
+        }
+
+        // 2. 없는 사용자는 짧은 트랜잭션으로 등록해 바로 커밋한다. 이미 있는 github_id 는 DB 가 건너뛴다.
+        List<GithubUserProfile> newProfiles = profiles.keySet()
+                .stream()
+                .filter(githubId -> !resolved.containsKey(githubId))
+                .map(githubId -> profiles.get(githubId)
+                        .get())
+                .toList();
+        registerAll(newProfiles);
+
+        // 3. 트랜잭션 밖이므로 잠금 없이 읽어도 다른 트랜잭션이 커밋한 행까지 보인다.
+        resolved.putAll(findByGithubIds(newProfiles.stream()
+                .map(GithubUserProfile::githubId)
+                .toList()));
+
+        return resolved;
+    }
+
+    private void registerAll(List<GithubUserProfile> newProfiles) {
+        // 호출 측 작업이 실패해도 등록은 유지되고, 다른 스레드/노드가 바로 볼 수 있도록 먼저 커밋한다.
+        registrationTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER_SQL, newProfiles,
+                newProfiles.size(), (ps, profile) -> {
+                    ps.setLong(1, profile.githubId());
+                    ps.setString(2, profile.login());
+                    ps.setString(3, profile.email());
+                    ps.setString(4, profile.type());
+                    ps.setString(5, profile.avatarUrl());
+                }));
+
+        log.info("신규 사용자 {}명 등록: {}", newProfiles.size(), newProfiles.stream()
+                .map(GithubUserProfile::login)
+                .toList());
+    }
+
+    private Map<Long, User> findByGithubIds(Collection<Long> githubIds) {
+        Map<Long, User> users = new HashMap<>();
+        if (githubIds.isEmpty()) {
+            return users;
+        }
+
+        List<Long> ids = new ArrayList<>(githubIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+
+            entityManager.createQuery("select u from User u where u.githubId in :githubIds", User.class)
+                    .setParameter("githubIds", chunk)
+                    .getResultList()
+                    .forEach(user -> users.putIfAbsent(user.getGithubId(), user));
+        }
+
+        return users;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ssafy.ottereview.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정
+ * 같은 테이블의 insert/update 를 모아 batch_size 개씩 한 번에 보낸다. (PR 동기화의 일괄 수정)
+ * IDENTITY 로 키를 만드는 엔티티의 insert 는 Hibernate 가 배치하지 않으므로, PR 생성 시 하위 행은 PullRequestChildRowJdbcRepository 로 저장한다.
+ * spring.jpa.properties 에 같은 값을 지정하면 그 값을 쓴다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
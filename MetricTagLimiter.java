@@ -0,0 +1,54 @@
+package com.ssafy.ottereview.common.metrics;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레포지토리/설치처럼 값이 계속 늘어나는 메트릭 태그의 카디널리티를 제한한다.
+ * 태그 키마다 처음 들어온 값부터 최대 개수까지만 그대로 쓰고, 이후 값은 "other" 로 묶는다.
+ */
+@Component
+public class MetricTagLimiter {
+
+    public static final String OVERFLOW = "other";
+    public static final String NONE = "none";
+
+    private final Map<String, Set<String>> admittedValues = new ConcurrentHashMap<>();
+    private final int maxValuesPerKey;
+
+    public MetricTagLimiter(@Value("${metrics.tags.max-values-per-key:200}") int maxValuesPerKey) {
+        this.maxValuesPerKey = maxValuesPerKey;
+    }
+
+    /**
+     * 태그 값을 제한 범위 안의 값으로 바꾼다. null 이면 "none" 이다.
+     */
+    public String limit(String tagKey, Object value) {
+        if (value == null) {
+            return NONE;
+        }
+
+        String tagValue = value.toString();
+        Set<String> admitted = admittedValues.computeIfAbsent(tagKey, key -> ConcurrentHashMap.newKeySet());
+        if (admitted.contains(tagValue)) {
+            return tagValue;
+        }
+
+        // 동시에 들어오면 최대 개수를 조금 넘을 수 있지만 메트릭 용도로는 충분하다.
+        if (admitted.size() < maxValuesPerKey) {
+            admitted.add(tagValue);
+            return tagValue;
+        }
+        return OVERFLOW;
+    }
+
+    /**
+     * 값이 제한 범위 안에 들어가는지 확인한다. 합칠 수 없는 gauge 처럼 "other" 로 묶으면 안 되는 경우에 쓴다.
+     */
+    public boolean admits(String tagKey, Object value) {
+        return value != null && !OVERFLOW.equals(limit(tagKey, value));
+    }
+}
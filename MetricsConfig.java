@@ -0,0 +1,40 @@
+package com.ssafy.ottereview.common.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+/**
+ * 애플리케이션 메트릭 설정
+ * 레포지토리 태그가 없는 diff 파싱, 준비 정보 Redis, 웹훅 처리 타이머는 Prometheus 에서 분위수를 계산할 수 있도록 히스토그램을 켠다.
+ * GitHub 호출과 PR 동기화 타이머는 레포지토리 태그마다 버킷이 늘어나므로 합계/최대값만 둔다.
+ * 수집은 actuator 의 /actuator/prometheus 로 노출한다. (management.endpoints.web.exposure.include)
+ */
+@Configuration
+@EnableAspectJAutoProxy
+public class MetricsConfig {
+
+    private static final List<String> HISTOGRAM_PREFIXES = List.of("diff.parse", "preparation.redis", "webhook.handle");
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getType() != Meter.Type.TIMER || HISTOGRAM_PREFIXES.stream()
+                        .noneMatch(id.getName()::startsWith)) {
+                    return config;
+                }
+
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.ssafy.ottereview.webhook.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티션 키별로 작업 순서를 보장하는 실행기
+ * 같은 키의 작업은 항상 같은 단일 스레드에서 제출 순서대로 실행되고, 다른 키의 작업은 병렬로 실행된다.
+ */
+@Slf4j
+@Component
+public class PartitionedExecutor {
+
+    private final ExecutorService[] partitions;
+
+    public PartitionedExecutor(@Value("${webhook.queue.partitions:8}") int partitionCount) {
+        this.partitions = new ExecutorService[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            String threadName = "webhook-partition-" + i;
+            partitions[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public Future<?> submit(long partitionKey, Runnable task) {
+        return partitions[partitionOf(partitionKey)].submit(task);
+    }
+
+    /**
+     * 파티션 키의 작업을 실행하는 단일 스레드 실행기 (비동기 처리 결과를 같은 파티션 순서로 이어 실행할 때 사용)
+     */
+    public Executor executorOf(long partitionKey) {
+        return partitions[partitionOf(partitionKey)];
+    }
+
+    private int partitionOf(long partitionKey) {
+        return (int) Math.floorMod(Long.hashCode(partitionKey), (long) partitions.length);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+    }
+}
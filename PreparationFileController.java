@@ -0,0 +1,48 @@
+package com.ssafy.ottereview.preparation.controller;
+
+import com.ssafy.ottereview.preparation.dto.DiffHunk;
+import com.ssafy.ottereview.preparation.dto.FileChangeInfo;
+import com.ssafy.ottereview.preparation.service.PrService;
+import com.ssafy.ottereview.user.entity.CustomUserDetail;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 준비된 PR 정보의 파일 단위 조회 API
+ * 준비 정보 본문에는 파일 메타데이터만 담기므로, 화면에서 파일을 펼칠 때 이 API 로 patch/hunk 를 가져온다.
+ * 파일 경로에 '/' 가 들어가므로 파일 이름은 쿼리 파라미터로 받는다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/repositories/{repo-id}/preparation/files")
+public class PreparationFileController {
+
+    private final PrService prService;
+
+    @GetMapping
+    public ResponseEntity<FileChangeInfo> getFileChange(@AuthenticationPrincipal CustomUserDetail customUserDetail,
+            @PathVariable("repo-id") Long repoId,
+            @RequestParam String source,
+            @RequestParam String target,
+            @RequestParam String filename) {
+
+        return ResponseEntity.ok(prService.getFileChange(customUserDetail, repoId, source, target, filename));
+    }
+
+    @GetMapping("/hunks")
+    public ResponseEntity<List<DiffHunk>> getFileDiffHunks(@AuthenticationPrincipal CustomUserDetail customUserDetail,
+            @PathVariable("repo-id") Long repoId,
+            @RequestParam String source,
+            @RequestParam String target,
+            @RequestParam String filename) {
+
+        return ResponseEntity.ok(prService.getFileDiffHunks(customUserDetail, repoId, source, target, filename));
+    }
+}
@@ -0,0 +1,67 @@
+package com.ssafy.ottereview.preparation.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.ottereview.preparation.dto.PreparationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 앞단에서 역직렬화된 PR 준비 정보를 노드 메모리에 보관하는 near cache
+ * 어느 노드에서든 준비 정보가 바뀌면 Redis pub/sub 으로 키를 전파해 모든 노드의 항목을 제거한다.
+ */
+@Slf4j
+@Component
+public class PreparationNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "preparation:invalidate";
+
+    private final Cache<String, PreparationResult> cache;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public PreparationNearCache(StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${preparation.near-cache.maximum-size:100}") long maximumSize,
+            @Value("${preparation.near-cache.ttl:PT30S}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "preparationNearCache");
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 Redis 에서 읽어 보관한다. 없는 값(null)은 보관하지 않는다.
+     * 읽는 동안 들어온 invalidate 는 읽기가 끝난 뒤 적용되므로, 무효화 전에 시작한 읽기 결과가 캐시에 남지 않는다.
+     */
+    public PreparationResult get(String key, Supplier<PreparationResult> loader) {
+        return cache.get(key, k -> loader.get());
+    }
+
+    /**
+     * 이 노드의 항목을 제거하고 다른 노드에도 무효화를 알린다.
+     */
+    public void invalidate(String key) {
+        cache.invalidate(key);
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, key);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        cache.invalidate(key);
+        log.debug("PR 준비 정보 near cache 무효화, key: {}", key);
+    }
+}
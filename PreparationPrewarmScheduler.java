@@ -0,0 +1,222 @@
+package com.ssafy.ottereview.preparation.service;
+
+import com.ssafy.ottereview.preparation.dto.PreparationResult;
+import com.ssafy.ottereview.preparation.repository.CompactPreparationRedisRepository;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.repo.repository.RepoRepository;
+import com.ssafy.ottereview.user.entity.User;
+import com.ssafy.ottereview.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * push 이벤트로 바뀐 브랜치의 PR 준비 정보를 백그라운드에서 미리 만들어 두는 스케줄러
+ * 최근에 준비 화면을 사용한 작성자의 작업을 먼저 처리하고, 활동 기록이 없는 작성자는 건너뛴다.
+ * 작업 수는 대기열 크기와 워커 수로 제한하며, 대기열이 가득 차면 우선순위가 가장 낮은 작업을 밀어낸다.
+ * 미리 만든 정보는 짧은 TTL 로 저장해 열어 보지 않으면 정리된다.
+ */
+@Slf4j
+@Component
+public class PreparationPrewarmScheduler {
+
+    // 최근 활동한 작성자 우선, 같으면 먼저 들어온 작업 우선
+    private static final Comparator<PrewarmTask> PRIORITY = Comparator.comparingLong(PrewarmTask::authorLastActiveAt)
+            .reversed()
+            .thenComparingLong(PrewarmTask::sequence);
+
+    private final PrService prService;
+    private final RepoRepository repoRepository;
+    private final UserRepository userRepository;
+    private final PullRequestRepository pullRequestRepository;
+    private final CompactPreparationRedisRepository preparationRedisRepository;
+    private final AuthorActivityTracker authorActivityTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final int workerCount;
+    private final int queueCapacity;
+    private final Duration prewarmTtl;
+
+    // 대기열과 대기 중인 키는 lock 으로 함께 바꾼다. (크기 확인, 밀어내기, 추가를 한 번에)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final TreeSet<PrewarmTask> queue = new TreeSet<>(PRIORITY);
+    private final Set<String> pendingKeys = new HashSet<>();
+    private long sequence;
+    private ExecutorService workers;
+
+    public PreparationPrewarmScheduler(PrService prService,
+            RepoRepository repoRepository,
+            UserRepository userRepository,
+            PullRequestRepository pullRequestRepository,
+            CompactPreparationRedisRepository preparationRedisRepository,
+            AuthorActivityTracker authorActivityTracker,
+            PlatformTransactionManager transactionManager,
+            @Value("${preparation.prewarm.workers:2}") int workerCount,
+            @Value("${preparation.prewarm.queue-capacity:500}") int queueCapacity,
+            @Value("${preparation.prewarm.ttl:PT6H}") Duration prewarmTtl) {
+        this.prService = prService;
+        this.repoRepository = repoRepository;
+        this.userRepository = userRepository;
+        this.pullRequestRepository = pullRequestRepository;
+        this.preparationRedisRepository = preparationRedisRepository;
+        this.authorActivityTracker = authorActivityTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.workerCount = workerCount;
+        this.queueCapacity = queueCapacity;
+        this.prewarmTtl = prewarmTtl;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "preparation-prewarm-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 미리 준비 작업을 예약한다. 같은 (레포지토리, 브랜치 쌍) 작업이 이미 대기 중이면 합친다.
+     * 작업은 실행 시점의 브랜치 head 로 만들어지므로 연속된 push 는 한 번만 처리하면 된다.
+     */
+    public void schedule(long githubRepoId, String source, String target, long senderGithubId) {
+        long authorLastActiveAt = authorActivityTracker.lastActiveAt(senderGithubId);
+        if (authorLastActiveAt == 0) {
+            log.debug("최근 활동이 없는 작성자의 push 는 미리 준비하지 않습니다. sender: {}", senderGithubId);
+            return;
+        }
+
+        String key = githubRepoId + ":" + source + ":" + target;
+        lock.lock();
+        try {
+            if (pendingKeys.contains(key)) {
+                return;
+            }
+
+            PrewarmTask task = new PrewarmTask(key, githubRepoId, source, target, senderGithubId, authorLastActiveAt,
+                    ++sequence);
+            if (queue.size() >= queueCapacity) {
+                PrewarmTask lowest = queue.last();
+                if (PRIORITY.compare(task, lowest) > 0) {
+                    log.warn("[PR 미리 준비 보류] 대기열이 가득 찼습니다. key: {}", key);
+                    return;
+                }
+                queue.pollLast();
+                pendingKeys.remove(lowest.key());
+                log.warn("[PR 미리 준비 보류] 대기열이 가득 차 우선순위가 낮은 작업을 뺐습니다. key: {}", lowest.key());
+            }
+
+            queue.add(task);
+            pendingKeys.add(key);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 삭제된 브랜치의 준비 정보를 제거한다.
+     */
+    public void evict(long githubRepoId, String source, String target) {
+        repoRepository.findByRepoId(githubRepoId)
+                .ifPresent(repo -> preparationRedisRepository.delete(repo.getId(), source, target));
+    }
+
+    private void drain() {
+        while (!Thread.currentThread()
+                .isInterrupted()) {
+            try {
+                prewarm(take());
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                        .interrupt();
+            } catch (Exception e) {
+                log.warn("[PR 미리 준비 실패] 원인: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private PrewarmTask take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                notEmpty.await();
+            }
+            PrewarmTask task = queue.pollFirst();
+            pendingKeys.remove(task.key());
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void prewarm(PrewarmTask task) {
+        // 1. 레포지토리, 작성자 조회 (짧은 읽기 트랜잭션)
+        PrewarmTarget target = transactionTemplate.execute(status -> {
+            Repo repo = repoRepository.findByRepoId(task.githubRepoId())
+                    .orElse(null);
+            User author = userRepository.findByGithubId(task.senderGithubId())
+                    .orElse(null);
+            if (repo == null || author == null) {
+                return null;
+            }
+
+            // 이미 PR 이 있으면 준비할 필요가 없다.
+            if (pullRequestRepository.findByRepoAndBaseAndHead(repo, task.target(), task.source())
+                    .isPresent()) {
+                return null;
+            }
+
+            Hibernate.initialize(repo.getAccount());
+            return new PrewarmTarget(repo, author);
+        });
+        if (target == null) {
+            return;
+        }
+
+        // 2. 준비 정보 생성 및 저장
+        PreparationResult preparationResult = prService.buildPreparation(target.author(), target.repo(), task.source(),
+                task.target());
+
+        // 작성자가 이미 열어 본 준비 정보는 기본 TTL 을 유지하고, 아니면 짧은 TTL 로 두었다가 첫 조회 때 늘린다.
+        preparationRedisRepository.savePrewarmedPrepareInfo(target.repo()
+                .getId(), preparationResult, prewarmTtl);
+
+        log.debug("PR 준비 정보 미리 생성 완료, key: {}", task.key());
+    }
+
+    private record PrewarmTask(String key, long githubRepoId, String source, String target, long senderGithubId,
+                               long authorLastActiveAt, long sequence) {
+
+    }
+
+    private record PrewarmTarget(Repo repo, User author) {
+
+    }
+}
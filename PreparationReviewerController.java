@@ -0,0 +1,35 @@
+package com.ssafy.ottereview.preparation.controller;
+
+import com.ssafy.ottereview.preparation.dto.UserInfo;
+import com.ssafy.ottereview.preparation.service.PrService;
+import com.ssafy.ottereview.user.entity.CustomUserDetail;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * PR 준비 화면의 리뷰어 검색 API
+ * 레포지토리 계정 멤버 중 GitHub 사용자명이 prefix 로 시작하는 사용자를 작성자를 빼고 돌려준다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/repositories/{repo-id}/preparation/reviewers")
+public class PreparationReviewerController {
+
+    private final PrService prService;
+
+    @GetMapping
+    public ResponseEntity<List<UserInfo>> searchReviewers(@AuthenticationPrincipal CustomUserDetail customUserDetail,
+            @PathVariable("repo-id") Long repoId,
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        return ResponseEntity.ok(prService.searchReviewers(customUserDetail, repoId, prefix, limit));
+    }
+}
@@ -1,8 +1,8 @@
 package com.ssafy.ottereview.preparation.service;
 
-import com.ssafy.ottereview.account.service.UserAccountService;
-import com.ssafy.ottereview.githubapp.client.GithubApiClient;
-import com.ssafy.ottereview.preparation.dto.CommitInfo;
+import com.ssafy.ottereview.account.service.AccountMemberDirectory;
+import com.ssafy.ottereview.account.service.RepoPermissionCache;
+import com.ssafy.ottereview.preparation.dto.CompareSnapshot;
 import com.ssafy.ottereview.preparation.dto.DiffHunk;
 import com.ssafy.ottereview.preparation.dto.FileChangeInfo;
 import com.ssafy.ottereview.preparation.dto.PreparationResult;
@@ -10,24 +10,18 @@ import com.ssafy.ottereview.preparation.dto.RepoInfo;
 import com.ssafy.ottereview.preparation.dto.UserInfo;
 import com.ssafy.ottereview.preparation.dto.request.AdditionalInfoRequest;
 import com.ssafy.ottereview.preparation.dto.request.PreparationValidationRequest;
-import com.ssafy.ottereview.preparation.repository.PreparationRedisRepository;
+import com.ssafy.ottereview.preparation.repository.CompactPreparationRedisRepository;
 import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
-import com.ssafy.ottereview.pullrequest.util.DiffUtil;
 import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.reviewer.service.ReviewerResolver;
 import com.ssafy.ottereview.user.entity.CustomUserDetail;
 import com.ssafy.ottereview.user.entity.User;
-import com.ssafy.ottereview.user.repository.UserRepository;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.UnaryOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.kohsuke.github.GHCommit;
-import org.kohsuke.github.GHCompare;
-import org.kohsuke.github.GHCompare.Commit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,16 +31,20 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PrService {
 
-    private final UserRepository userRepository;
-    private final GithubApiClient githubApiClient;
-    private final DiffUtil diffUtil;
-    private final UserAccountService userAccountService;
-    private final PreparationRedisRepository pullRequestRedisService;
+    private static final int MAX_REVIEWER_SEARCH_LIMIT = 50;
+
+    private final ReviewerResolver reviewerResolver;
+    private final CompareSnapshotService compareSnapshotService;
+    private final FileChangeConverter fileChangeConverter;
+    private final AccountMemberDirectory accountMemberDirectory;
+    private final RepoPermissionCache repoPermissionCache;
+    private final CompactPreparationRedisRepository pullRequestRedisService;
     private final PullRequestRepository pullRequestRepository;
+    private final AuthorActivityTracker authorActivityTracker;
     
     public PreparationResult getPreparePullRequestInfo(CustomUserDetail userDetail, Long repoId, String source, String target) {
 
-        userAccountService.validateUserPermission(userDetail.getUser()
+        repoPermissionCache.validateUserPermission(userDetail.getUser()
                 .getId(), repoId);
 
         PreparationResult preparationResult = pullRequestRedisService.getPrepareInfo(repoId, source, target);
@@ -58,10 +56,61 @@ public class PrService {
         return preparationResult;
     }
 
+    /**
+     * 준비된 PR 정보에서 파일 하나의 patch/hunk 를 포함한 변경 정보를 조회한다.
+     * 지연 모드로 저장된 준비 정보는 파일별로 저장된 값을 읽고, eager 로 저장된 준비 정보만 본문의 파일 목록에서 찾는다.
+     */
+    public FileChangeInfo getFileChange(CustomUserDetail userDetail, Long repoId, String source, String target, String filename) {
+
+        repoPermissionCache.validateUserPermission(userDetail.getUser()
+                .getId(), repoId);
+
+        return findFileChange(repoId, source, target, filename, UnaryOperator.identity());
+    }
+
+    /**
+     * 준비된 PR 정보에서 파일 하나의 hunk 목록을 조회한다.
+     * 크기 제한으로 파싱을 미뤄 둔 파일은 첫 요청에서 한 번만 파싱하고 파일별 Hash 에 되돌려 쓴다.
+     */
+    public List<DiffHunk> getFileDiffHunks(CustomUserDetail userDetail, Long repoId, String source, String target, String filename) {
+
+        repoPermissionCache.validateUserPermission(userDetail.getUser()
+                .getId(), repoId);
+
+        return fileChangeConverter.resolveDiffHunks(
+                findFileChange(repoId, source, target, filename, fileChangeConverter::parseDeferredHunks));
+    }
+
+    private FileChangeInfo findFileChange(Long repoId, String source, String target, String filename,
+            UnaryOperator<FileChangeInfo> resolver) {
+
+        FileChangeInfo fileChange = pullRequestRedisService.getFileChange(repoId, source, target, filename, resolver);
+        if (fileChange != null) {
+            return fileChange;
+        }
+
+        PreparationResult preparationResult = pullRequestRedisService.getPrepareInfo(repoId, source, target);
+        if (preparationResult == null) {
+            throw new IllegalArgumentException("준비된 Pull Request 정보가 없습니다.");
+        }
+
+        // 지연 모드로 저장된 본문의 파일 목록은 patch/hunk 가 빠져 있으므로 파일별 Hash 에 없으면 없는 파일이다.
+        if (!pullRequestRedisService.hasInlineFileContents(repoId, source, target)) {
+            throw new IllegalArgumentException("File not found in preparation: " + filename);
+        }
+
+        return preparationResult.getFiles()
+                .stream()
+                .filter(file -> file.getFilename()
+                        .equals(filename))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("File not found in preparation: " + filename));
+    }
+
     public PreparationResult validatePullRequest(CustomUserDetail userDetail, Long repoId, PreparationValidationRequest request) {
 
         // 1. 유저 권한 검증
-        Repo repo = userAccountService.validateUserPermission(userDetail.getUser()
+        Repo repo = repoPermissionCache.validateUserPermission(userDetail.getUser()
                 .getId(), repoId);
 
         // 이미 있는 PR일 경우 예외 처리
@@ -71,76 +120,96 @@ public class PrService {
         }
         
         User author = userDetail.getUser();
+        authorActivityTracker.recordActivity(author.getGithubId());
 
+        PreparationResult preparationResult = buildPreparation(author, repo, request.getSource(), request.getTarget());
+
+        pullRequestRedisService.savePrepareInfo(repoId, preparationResult);
+
+        return preparationResult;
+    }
+
+    /**
+     * 작성자 기준으로 source → target PR 준비 정보를 만든다. (저장은 호출 측에서 한다)
+     * 사용자 요청과 push 이벤트 기반 미리 준비에서 함께 사용한다.
+     */
+    public PreparationResult buildPreparation(User author, Repo repo, String source, String target) {
+
+        // 작성자를 제외한 계정 멤버를 리뷰어 후보로 사용
         Long accountId = repo.getAccount()
                 .getId();
-        List<UserInfo> reviewers = userAccountService.getUsersByAccount(accountId)
-                .stream()
-                .filter(user -> !user.getId()
-                        .equals(author.getId())) // author 제외
-                .map(user -> UserInfo.builder()
-                        .id(user.getId())
-                        .githubUsername(user.getGithubUsername())
-                        .githubEmail(user.getGithubEmail())
-                        .build()
-                )
-                .toList();
+        List<UserInfo> reviewers = accountMemberDirectory.allExcept(accountId, author.getId());
 
-        GHCompare compare = githubApiClient.getCompare(repo.getAccount()
-                .getInstallationId(), repo.getFullName(), request.getTarget(), request.getSource());
+        // 브랜치 head 가 바뀌지 않았으면 이전 compare 변환 결과를 재사용
+        CompareSnapshot compare = compareSnapshotService.getSnapshot(repo, target, source);
 
-        PreparationResult preparationResult = convertToPreparePullRequestResponse(author, repo, compare, request, reviewers);
+        return convertToPreparePullRequestResponse(author, repo, compare, source, target, reviewers);
+    }
 
-        pullRequestRedisService.savePrepareInfo(repoId, preparationResult);
+    /**
+     * 리뷰어 선택 화면에서 GitHub 사용자명 접두어로 계정 멤버를 검색한다. (작성자 제외)
+     * limit 은 0 ~ MAX_REVIEWER_SEARCH_LIMIT 으로 맞춘다.
+     */
+    public List<UserInfo> searchReviewers(CustomUserDetail userDetail, Long repoId, String prefix, int limit) {
 
-        return preparationResult;
+        int boundedLimit = Math.max(0, Math.min(limit, MAX_REVIEWER_SEARCH_LIMIT));
+        Repo repo = repoPermissionCache.validateUserPermission(userDetail.getUser()
+                .getId(), repoId);
+
+        Long authorId = userDetail.getUser()
+                .getId();
+        return accountMemberDirectory.searchByPrefix(repo.getAccount()
+                        .getId(), prefix, boundedLimit + 1)
+                .stream()
+                .filter(member -> !member.getId()
+                        .equals(authorId))
+                .limit(boundedLimit)
+                .toList();
     }
 
     public void enrollAdditionalInfo(CustomUserDetail userDetail, Long repoId, AdditionalInfoRequest request) {
         try {
-            userAccountService.validateUserPermission(userDetail.getUser()
+            repoPermissionCache.validateUserPermission(userDetail.getUser()
                     .getId(), repoId);
 
-            // 1. 기존 데이터 조회
-            PreparationResult prepareInfo = pullRequestRedisService.getPrepareInfo(repoId, request.getSource(), request.getTarget());
+            // 1. 준비된 데이터가 있는지 확인 (본문은 읽지 않는다)
+            if (!pullRequestRedisService.exists(repoId, request.getSource(), request.getTarget())) {
+                throw new IllegalArgumentException("준비된 Pull Request 정보가 없습니다.");
+            }
 
-            // 2. 선택적 필드들 업데이트
+            // 2. 선택적 필드들 수집
+            Map<String, Object> fields = new HashMap<>();
             if (request.getTitle() != null) {
-                prepareInfo.enrollTitle(request.getTitle());
+                fields.put(CompactPreparationRedisRepository.FIELD_TITLE, request.getTitle());
             }
 
             if (request.getBody() != null) {
-                prepareInfo.enrollBody(request.getBody());
+                fields.put(CompactPreparationRedisRepository.FIELD_BODY, request.getBody());
             }
             if (request.getReviewers() != null && !request.getReviewers()
                     .isEmpty()) {
                 List<UserInfo> userInfos = convertToReviewerInfos(request.getReviewers());
-                prepareInfo.enrollReviewers(userInfos);
+                fields.put(CompactPreparationRedisRepository.FIELD_REVIEWERS, userInfos);
             }
 
             if (request.getSummary() != null && !request.getSummary()
                     .trim()
                     .isEmpty()) {
-                prepareInfo.enrollSummary(request.getSummary());
+                fields.put(CompactPreparationRedisRepository.FIELD_SUMMARY, request.getSummary());
             }
 
             if (request.getDescription() != null && !request.getDescription()
                     .isEmpty()) {
-                prepareInfo.enrollDescriptions(request.getDescription());
-            }
-
-            if (request.getDescription() != null && !request.getDescription()
-                    .isEmpty()) {
-                prepareInfo.enrollDescriptions(request.getDescription());
+                fields.put(CompactPreparationRedisRepository.FIELD_DESCRIPTIONS, request.getDescription());
             }
 
             if (request.getPriorities() != null && !request.getPriorities()
                     .isEmpty()) {
-                prepareInfo.enrollPriorities(request.getPriorities());
+                fields.put(CompactPreparationRedisRepository.FIELD_PRIORITIES, request.getPriorities());
             }
 
-            // 4. Repository에서 저장
-            pullRequestRedisService.updatePrepareInfo(repoId, prepareInfo);
+            // 3. 변경된 필드만 Hash 에 저장
+            pullRequestRedisService.updateMetadata(repoId, request.getSource(), request.getTarget(), fields);
 
         } catch (Exception e) {
             log.error("추가 정보 업데이트 실패", e);
@@ -149,46 +218,28 @@ public class PrService {
     }
 
     private List<UserInfo> convertToReviewerInfos(List<Long> reviewerIds) {
-        // reviewerIds를 ReviewerInfo 객체로 변환하는 로직
-        return reviewerIds.stream()
-                .map(this::getReviewerInfoById)
-                .collect(Collectors.toList());
-    }
-
-    private UserInfo getReviewerInfoById(Long reviewerId) {
-        User reviewer = userRepository.findById(reviewerId)
-                .orElseThrow(() -> new IllegalArgumentException("Reviewer not found with id: " + reviewerId));
-
-        return UserInfo.builder()
-                .id(reviewer.getId())
-                .githubUsername(reviewer.getGithubUsername())
-                .githubEmail(reviewer.getGithubEmail())
-                .build();
+        // reviewerIds를 한 번에 조회해 입력 순서대로 ReviewerInfo 객체로 변환
+        return reviewerResolver.resolveUserInfos(reviewerIds);
     }
 
-    private PreparationResult convertToPreparePullRequestResponse(User author, Repo repo, GHCompare compare, PreparationValidationRequest request, List<UserInfo> reviewers) {
+    private PreparationResult convertToPreparePullRequestResponse(User author, Repo repo, CompareSnapshot compare, String source, String target, List<UserInfo> reviewers) {
 
         return PreparationResult.builder()
-                .source(request.getSource())
-                .target(request.getTarget())
-                .url(compare.getUrl()
-                        .toString())
-                .htmlUrl(compare.getHtmlUrl()
-                        .toString())
-                .permalinkUrl(compare.getPermalinkUrl()
-                        .toString())
-                .diffUrl(compare.getDiffUrl()
-                        .toString())
-                .patchUrl(compare.getPatchUrl()
-                        .toString())
+                .source(source)
+                .target(target)
+                .url(compare.getUrl())
+                .htmlUrl(compare.getHtmlUrl())
+                .permalinkUrl(compare.getPermalinkUrl())
+                .diffUrl(compare.getDiffUrl())
+                .patchUrl(compare.getPatchUrl())
                 .aheadBy(compare.getAheadBy())
                 .behindBy(compare.getBehindBy())
                 .totalCommits(compare.getTotalCommits())
                 .status(compare.getStatus())
-                .baseCommit(convertToCommitInfo(compare.getBaseCommit()))
-                .mergeBaseCommit(convertToCommitInfo(compare.getMergeBaseCommit()))
-                .commits(convertCommitArray(compare.getCommits()))
-                .files(convertToFileChanges(compare.getFiles()))
+                .baseCommit(compare.getBaseCommit())
+                .mergeBaseCommit(compare.getMergeBaseCommit())
+                .commits(compare.getCommits())
+                .files(compare.getFiles())
                 .author(UserInfo.of(author.getId(), author.getGithubUsername(), author.getGithubEmail()))
                 .repository(RepoInfo.of(repo.getId(), repo.getFullName()))
                 .preReviewers(reviewers)
@@ -197,96 +248,6 @@ public class PrService {
                 .build();
     }
 
-    private List<FileChangeInfo> convertToFileChanges(GHCommit.File[] changedFiles) {
-        List<FileChangeInfo> fileChanges = new ArrayList<>();
-
-        for (GHCommit.File file : changedFiles) {
-            try {
-                log.debug("파일 이름 PreviousFilename: {}", file.getFileName());
-                // GHCommit.File 객체에서 기본 정보 추출
-                FileChangeInfo.FileChangeInfoBuilder builder = FileChangeInfo.builder()
-                        
-                        .filename(file.getFileName())
-                        .status(file.getStatus())
-                        .additions(file.getLinesAdded())
-                        .deletions(file.getLinesDeleted())
-                        .rawUrl(file.getRawUrl())
-                        .blobUrl(file.getBlobUrl())
-                        .changes(file.getLinesChanged());
-
-                String detailedPatch = file.getPatch();
-                if (detailedPatch != null && !detailedPatch.isEmpty()) {
-                    List<DiffHunk> diffHunks = diffUtil.parseDiffHunks(detailedPatch);
-                    builder.patch(detailedPatch)
-                            .diffHunks(diffHunks);
-
-                }
-
-                fileChanges.add(builder.build());
-
-            } catch (Exception e) {
-                log.error("Error processing file change: {}", file.getFileName(), e);
-            }
-        }
-
-        return fileChanges;
-    }
-
-    private CommitInfo convertToCommitInfo(Commit commit) {
-        if (commit == null) {
-            return null;
-        }
-
-        try {
-            return CommitInfo.builder()
-                    .sha(commit.getSHA1())
-                    .message(commit.getCommit()
-                            .getMessage())
-                    .authorName(commit.getCommit()
-                            .getAuthor()
-                            .getName())
-                    .authorEmail(commit.getCommit()
-                            .getAuthor()
-                            .getEmail())
-                    .authorDate(commit.getCommit()
-                            .getAuthor()
-                            .getDate()
-                            .toString())
-                    .committerName(commit.getCommit()
-                            .getCommitter()
-                            .getName())
-                    .committerEmail(commit.getCommit()
-                            .getCommitter()
-                            .getEmail())
-                    .committerDate(commit.getCommit()
-                            .getCommitter()
-                            .getDate()
-                            .toString())
-                    .url(commit.getUrl()
-                            .toString())
-                    .htmlUrl(commit.getHtmlUrl()
-                            .toString())
-                    .additions(commit.getLinesAdded())
-                    .deletions(commit.getLinesDeleted())
-                    .totalChanges(commit.getLinesChanged())
-                    .build();
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Failed to convert commit info: " + e.getMessage(), e);
-        }
-    }
-
-    private List<CommitInfo> convertCommitArray(Commit[] commits) {
-        if (commits == null) {
-            return Collections.emptyList();
-        }
-
-        return Arrays.stream(commits)
-                .map(this::convertToCommitInfo)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-    }
-
-
     public Boolean isCreatePR(String status, int aheadBy, int totalCommits) {
 
         return switch (status.toLowerCase()) {
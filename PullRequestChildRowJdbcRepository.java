@@ -0,0 +1,122 @@
+package com.ssafy.ottereview.pullrequest.repository;
+
+import com.ssafy.ottereview.description.entity.Description;
+import com.ssafy.ottereview.preparation.dto.DescriptionInfo;
+import com.ssafy.ottereview.preparation.dto.PriorityInfo;
+import com.ssafy.ottereview.priority.entity.Priority;
+import com.ssafy.ottereview.reviewer.entity.Reviewer;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PR 생성 시 함께 저장하는 리뷰어/우선 순위/설명 행을 테이블별 JDBC 배치 한 번으로 insert 하는 저장소
+ * 세 엔티티는 IDENTITY 키라 saveAll 하면 Hibernate 가 배치하지 않고 행마다 insert 한다.
+ * 테이블/컬럼 이름은 Hibernate 매핑에서 읽으며, 여기서 채우지 않는 not null 속성이 있으면 시작할 때 실패한다.
+ * 호출 측 트랜잭션(같은 연결)에 참여하며, 저장한 행은 영속성 컨텍스트에 올라가지 않는다.
+ */
+@Repository
+public class PullRequestChildRowJdbcRepository {
+
+    // 매핑되어 있으면 insert 시각으로 채우는 감사 속성
+    private static final List<String> TIMESTAMP_PROPERTIES = List.of("createdAt", "modifiedAt");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChildInsert reviewerInsert;
+    private final ChildInsert priorityInsert;
+    private final ChildInsert descriptionInsert;
+
+    public PullRequestChildRowJdbcRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        MappingMetamodel metamodel = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel();
+        this.reviewerInsert = ChildInsert.of(metamodel, Reviewer.class, List.of("pullRequest", "user"));
+        this.priorityInsert = ChildInsert.of(metamodel, Priority.class,
+                List.of("pullRequest", "title", "idx", "content"));
+        this.descriptionInsert = ChildInsert.of(metamodel, Description.class,
+                List.of("pullRequest", "path", "position", "recordKey"));
+    }
+
+    public void insertReviewers(Long pullRequestId, List<Long> userIds) {
+        reviewerInsert.execute(jdbcTemplate, userIds, userId -> new Object[]{pullRequestId, userId});
+    }
+
+    public void insertPriorities(Long pullRequestId, List<PriorityInfo> priorities) {
+        priorityInsert.execute(jdbcTemplate, priorities, priority -> new Object[]{pullRequestId,
+                priority.getTitle(), priority.getIdx(), priority.getContent()});
+    }
+
+    public void insertDescriptions(Long pullRequestId, List<DescriptionInfo> descriptions) {
+        descriptionInsert.execute(jdbcTemplate, descriptions, description -> new Object[]{pullRequestId,
+                description.getPath(), description.getPosition(), description.getRecordKey()});
+    }
+
+    /**
+     * 엔티티 매핑에서 만든 insert 문
+     *
+     * @param timestampCount 값 뒤에 insert 시각으로 채우는 감사 컬럼 수
+     */
+    private record ChildInsert(String sql, int timestampCount) {
+
+        static ChildInsert of(MappingMetamodel metamodel, Class<?> entityType, List<String> properties) {
+            AbstractEntityPersister persister = (AbstractEntityPersister) metamodel.getEntityDescriptor(entityType);
+            List<String> names = Arrays.asList(persister.getPropertyNames());
+
+            List<String> written = new ArrayList<>(properties);
+            TIMESTAMP_PROPERTIES.stream()
+                    .filter(names::contains)
+                    .forEach(written::add);
+
+            boolean[] nullability = persister.getPropertyNullability();
+            boolean[] insertability = persister.getPropertyInsertability();
+            for (int i = 0; i < names.size(); i++) {
+                if (!nullability[i] && insertability[i] && !written.contains(names.get(i))) {
+                    throw new IllegalStateException(
+                            entityType.getSimpleName() + " 의 not null 속성을 JDBC insert 가 채우지 않습니다: " + names.get(i));
+                }
+            }
+
+            List<String> columns = new ArrayList<>(written.size());
+            for (String property : written) {
+                String[] propertyColumns = persister.getPropertyColumnNames(property);
+                if (propertyColumns.length != 1) {
+                    throw new IllegalStateException(
+                            entityType.getSimpleName() + "." + property + " 는 단일 컬럼 속성이 아닙니다.");
+                }
+                columns.add(propertyColumns[0]);
+            }
+
+            String sql = "insert into " + persister.getTableName() + " (" + String.join(", ", columns) + ") values ("
+                    + String.join(", ", columns.stream()
+                    .map(column -> "?")
+                    .toList()) + ")";
+            return new ChildInsert(sql, written.size() - properties.size());
+        }
+
+        <T> void execute(JdbcTemplate jdbcTemplate, List<T> rows, Function<T, Object[]> values) {
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> batchArgs = new ArrayList<>(rows.size());
+            for (T row : rows) {
+                Object[] rowValues = values.apply(row);
+                Object[] args = Arrays.copyOf(rowValues, rowValues.length + timestampCount);
+                Arrays.fill(args, rowValues.length, args.length, now);
+                batchArgs.add(args);
+            }
+            jdbcTemplate.batchUpdate(sql, batchArgs);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.ssafy.ottereview.pullrequest.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.ottereview.account.entity.Account;
+import com.ssafy.ottereview.common.sql.SqlStatementCounter;
+import com.ssafy.ottereview.common.sql.SqlStatementCountingDataSource;
+import com.ssafy.ottereview.description.entity.Description;
+import com.ssafy.ottereview.preparation.dto.DescriptionInfo;
+import com.ssafy.ottereview.preparation.dto.PriorityInfo;
+import com.ssafy.ottereview.priority.entity.Priority;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.reviewer.entity.Reviewer;
+import com.ssafy.ottereview.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+
+/**
+ * PR 생성 시 하위 행 JDBC 배치가 엔티티 매핑과 같은 컬럼에 저장되고, 행 수와 관계없이 테이블별 SQL 한 번으로 끝나는지 확인한다.
+ */
+@DataJpaTest
+class PullRequestChildRowJdbcRepositoryTest {
+
+    private static final int ROW_COUNT = 30;
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter(false);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private PullRequestChildRowJdbcRepository childRowRepository;
+    private PullRequest pullRequest;
+    private List<User> reviewers;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 트랜잭션의 연결을 그대로 쓰면서 실행한 SQL 문 수를 센다.
+        childRowRepository = new PullRequestChildRowJdbcRepository(
+                new JdbcTemplate(new SqlStatementCountingDataSource(new TransactionAwareDataSourceProxy(dataSource))),
+                entityManagerFactory);
+
+        Account account = entityManager.persist(Account.builder()
+                .installationId(78299031L)
+                .build());
+        Repo repo = entityManager.persist(Repo.builder()
+                .repoId(1032206976L)
+                .fullName("kangboom/ottereview-test")
+                .account(account)
+                .build());
+        User author = entityManager.persist(user(103165796L, "kangboom"));
+        pullRequest = entityManager.persist(PullRequest.builder()
+                .githubId(2723459181L)
+                .githubPrNumber(1)
+                .title("feat: 리뷰 화면 개선")
+                .state("OPEN")
+                .base("main")
+                .head("feature/1")
+                .merged(false)
+                .githubUpdatedAt(LocalDateTime.of(2025, 8, 1, 9, 0))
+                .repo(repo)
+                .author(author)
+                .build());
+
+        reviewers = new ArrayList<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            reviewers.add(entityManager.persist(user(103165800L + i, "member" + i)));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlStatementCounter.stop();
+    }
+
+    @Test
+    void insertsEveryTableInOneBatchStatement() {
+        sqlStatementCounter.start("test", 0);
+
+        childRowRepository.insertReviewers(pullRequest.getId(), reviewers.stream()
+                .map(User::getId)
+                .toList());
+        childRowRepository.insertPriorities(pullRequest.getId(), priorities());
+        childRowRepository.insertDescriptions(pullRequest.getId(), descriptions());
+
+        assertThat(sqlStatementCounter.stop()).isEqualTo(3);
+    }
+
+    @Test
+    void insertedRowsLoadAsEntities() {
+        childRowRepository.insertReviewers(pullRequest.getId(), reviewers.stream()
+                .map(User::getId)
+                .toList());
+        childRowRepository.insertPriorities(pullRequest.getId(), priorities());
+        childRowRepository.insertDescriptions(pullRequest.getId(), descriptions());
+
+        List<Reviewer> savedReviewers = entityManager.getEntityManager()
+                .createQuery("select r from Reviewer r where r.pullRequest.id = :id", Reviewer.class)
+                .setParameter("id", pullRequest.getId())
+                .getResultList();
+        assertThat(savedReviewers).extracting(reviewer -> reviewer.getUser()
+                        .getId())
+                .containsExactlyInAnyOrderElementsOf(reviewers.stream()
+                        .map(User::getId)
+                        .toList());
+
+        List<Priority> savedPriorities = entityManager.getEntityManager()
+                .createQuery("select p from Priority p where p.pullRequest.id = :id", Priority.class)
+                .setParameter("id", pullRequest.getId())
+                .getResultList();
+        savedPriorities.sort(Comparator.comparing(Priority::getIdx));
+        assertThat(savedPriorities).hasSize(ROW_COUNT);
+        assertThat(savedPriorities.get(3).getTitle()).isEqualTo("우선 순위 3");
+        assertThat(savedPriorities.get(3).getContent()).isEqualTo("내용 3");
+
+        List<Description> savedDescriptions = entityManager.getEntityManager()
+                .createQuery("select d from Description d where d.pullRequest.id = :id", Description.class)
+                .setParameter("id", pullRequest.getId())
+                .getResultList();
+        savedDescriptions.sort(Comparator.comparing(Description::getPosition));
+        assertThat(savedDescriptions).hasSize(ROW_COUNT);
+        assertThat(savedDescriptions.get(3).getPath()).isEqualTo("src/main/java/Generated3.java");
+        assertThat(savedDescriptions.get(3).getRecordKey()).isEqualTo("record-3");
+    }
+
+    private static List<PriorityInfo> priorities() {
+        List<PriorityInfo> priorities = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            priorities.add(PriorityInfo.builder()
+                    .title("우선 순위 " + i)
+                    .idx(i)
+                    .content("내용 " + i)
+                    .build());
+        }
+        return priorities;
+    }
+
+    private static List<DescriptionInfo> descriptions() {
+        List<DescriptionInfo> descriptions = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            descriptions.add(DescriptionInfo.builder()
+                    .path("src/main/java/Generated" + i + ".java")
+                    .position(i)
+                    .recordKey("record-" + i)
+                    .build());
+        }
+        return descriptions;
+    }
+
+    private static User user(Long githubId, String githubUsername) {
+        return User.builder()
+                .githubId(githubId)
+                .githubUsername(githubUsername)
+                .type("User")
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.ssafy.ottereview.pullrequest.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * GitHub 에 PR 을 만들기 전에 남기는 생성 요청 outbox 엔티티
+ * GitHub PR 생성과 DB 저장 사이에 노드가 죽어도, 이 행이 PENDING 으로 남아 있으면 재조정 작업이 GitHub PR 을 찾아
+ * 요청한 작성자와 리뷰어/우선 순위/설명으로 저장하거나, GitHub 에 PR 이 없으면 실패로 닫는다.
+ */
+@Entity
+@Table(name = "pull_request_creation", indexes = {
+        @Index(name = "idx_pull_request_creation_status_next", columnList = "status, next_attempt_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class PullRequestCreation {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "repo_id", nullable = false)
+    private Long repoId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(nullable = false)
+    private String source;
+
+    @Column(nullable = false)
+    private String target;
+
+    // 생성 요청 원본 (PullRequestCreateRequest JSON)
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PullRequestCreationStatus status;
+
+    @Column(name = "github_pr_number")
+    private Integer githubPrNumber;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 요청 처리 중이거나 재조정 중인 동안에는 이 시각 이후에만 재조정 작업이 가져간다.
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+
+    /**
+     * @param grace 요청 스레드가 GitHub 생성과 저장을 끝낼 때까지 재조정 작업이 기다리는 시간
+     */
+    public static PullRequestCreation pending(Long repoId, Long authorId, String source, String target,
+            String payload, Duration grace) {
+        LocalDateTime now = LocalDateTime.now();
+        return PullRequestCreation.builder()
+                .repoId(repoId)
+                .authorId(authorId)
+                .source(source)
+                .target(target)
+                .payload(payload)
+                .status(PullRequestCreationStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now.plus(grace))
+                .createdAt(now)
+                .modifiedAt(now)
+                .build();
+    }
+
+    /**
+     * 재조정 작업이 가져간다. lease 안에 끝나지 않으면 다른 노드가 다시 가져갈 수 있다.
+     */
+    public void claim(Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        this.attempts++;
+        this.nextAttemptAt = now.plus(lease);
+        this.modifiedAt = now;
+    }
+
+    public void complete(Integer githubPrNumber) {
+        this.status = PullRequestCreationStatus.DONE;
+        this.githubPrNumber = githubPrNumber;
+        this.lastError = null;
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = PullRequestCreationStatus.FAILED;
+        this.lastError = truncate(error);
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재조정 중 오류를 기록한다. 최대 시도 횟수를 넘으면 실패로 닫고, 아니면 backoff 후 다시 시도한다.
+     */
+    public void retryLater(String error, int maxAttempts, Duration backoff) {
+        if (attempts >= maxAttempts) {
+            fail(error);
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        this.lastError = truncate(error);
+        this.nextAttemptAt = now.plus(backoff);
+        this.modifiedAt = now;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
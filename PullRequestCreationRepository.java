@@ -0,0 +1,37 @@
+package com.ssafy.ottereview.pullrequest.repository;
+
+import com.ssafy.ottereview.pullrequest.entity.PullRequestCreation;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PullRequestCreationRepository extends JpaRepository<PullRequestCreation, Long> {
+
+    /**
+     * 요청 처리 시간이 지나도 PENDING 으로 남은 생성 요청을 오래된 순으로 가져온다.
+     * SKIP LOCKED 로 여러 노드가 같은 행을 가져가지 않게 한다.
+     */
+    @Query(value = """
+            select c.* from pull_request_creation c
+            where c.status = 'PENDING'
+              and c.next_attempt_at <= :now
+            order by c.id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<PullRequestCreation> findReconcilable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 상태를 바꾸기 전에 행을 잠가, 요청 스레드와 재조정 작업 중 한 쪽만 생성 요청을 마무리하게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from PullRequestCreation c where c.id = :id")
+    Optional<PullRequestCreation> findByIdForUpdate(@Param("id") Long id);
+}
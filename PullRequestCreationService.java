@@ -0,0 +1,267 @@
+package com.ssafy.ottereview.pullrequest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.preparation.dto.UserInfo;
+import com.ssafy.ottereview.pullrequest.dto.request.PullRequestCreateRequest;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.entity.PullRequestCreation;
+import com.ssafy.ottereview.pullrequest.entity.PullRequestCreationStatus;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestChildRowJdbcRepository;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestCreationRepository;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
+import com.ssafy.ottereview.pullrequest.util.PullRequestMapper;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.repo.repository.RepoRepository;
+import com.ssafy.ottereview.reviewer.service.ReviewerResolver;
+import com.ssafy.ottereview.user.entity.User;
+import com.ssafy.ottereview.user.repository.UserRepository;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PR 생성 요청 outbox(pull_request_creation)를 기록하고, PENDING 으로 남은 요청을 GitHub 과 맞춰 마무리하는 서비스
+ * GitHub 호출 전에 요청을 남기고, PR 과 하위 행 저장과 같은 트랜잭션에서 완료로 바꾼다.
+ * 그 사이에 노드가 죽거나 GitHub 응답을 받지 못하면 재조정 작업이 head/base 로 GitHub PR 을 찾아 저장하거나 실패로 닫는다.
+ */
+@Slf4j
+@Service
+public class PullRequestCreationService {
+
+    // GitHub 과 서버 시각 차이를 감안해 요청 시각보다 조금 앞서 만들어진 PR 까지 찾는다.
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final PullRequestCreationRepository pullRequestCreationRepository;
+    private final PullRequestRepository pullRequestRepository;
+    private final PullRequestChildRowJdbcRepository pullRequestChildRowJdbcRepository;
+    private final RepoRepository repoRepository;
+    private final UserRepository userRepository;
+    private final ReviewerResolver reviewerResolver;
+    private final PullRequestMapper pullRequestMapper;
+    private final GithubApiClient githubApiClient;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration grace;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final int batchSize;
+
+    public PullRequestCreationService(PullRequestCreationRepository pullRequestCreationRepository,
+            PullRequestRepository pullRequestRepository,
+            PullRequestChildRowJdbcRepository pullRequestChildRowJdbcRepository,
+            RepoRepository repoRepository,
+            UserRepository userRepository,
+            ReviewerResolver reviewerResolver,
+            PullRequestMapper pullRequestMapper,
+            GithubApiClient githubApiClient,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${github.pr-create.grace:PT2M}") Duration grace,
+            @Value("${github.pr-create.lease:PT1M}") Duration lease,
+            @Value("${github.pr-create.max-attempts:5}") int maxAttempts,
+            @Value("${github.pr-create.batch-size:20}") int batchSize) {
+        this.pullRequestCreationRepository = pullRequestCreationRepository;
+        this.pullRequestRepository = pullRequestRepository;
+        this.pullRequestChildRowJdbcRepository = pullRequestChildRowJdbcRepository;
+        this.repoRepository = repoRepository;
+        this.userRepository = userRepository;
+        this.reviewerResolver = reviewerResolver;
+        this.pullRequestMapper = pullRequestMapper;
+        this.githubApiClient = githubApiClient;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.grace = grace;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * GitHub 에 PR 을 만들기 전에 생성 요청을 남기고 id 를 반환한다.
+     */
+    public Long begin(Repo repo, User author, PullRequestCreateRequest request) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("PR 생성 요청을 저장할 수 없습니다.", e);
+        }
+
+        return transactionTemplate.execute(status -> pullRequestCreationRepository.save(
+                        PullRequestCreation.pending(repo.getId(), author.getId(), request.getSource(), request.getTarget(),
+                                payload, grace))
+                .getId());
+    }
+
+    /**
+     * GitHub 에 만든 PR 과 리뷰어/우선 순위/작성자 설명을 저장하고, 같은 트랜잭션에서 생성 요청을 완료로 바꾼다.
+     */
+    public void complete(Long creationId, GithubPrResponse prResponse, User author, Repo repo,
+            PullRequestCreateRequest request, List<User> reviewers) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 요청 스레드와 재조정 작업이 동시에 PENDING 을 보고 PR 을 두 번 저장하지 않도록 행을 잠근다.
+            PullRequestCreation creation = pullRequestCreationRepository.findByIdForUpdate(creationId)
+                    .orElseThrow(() -> new IllegalStateException("PR 생성 요청이 없습니다. id: " + creationId));
+            if (creation.getStatus() != PullRequestCreationStatus.PENDING) {
+                log.info("이미 처리된 PR 생성 요청, id: {}, 상태: {}", creationId, creation.getStatus());
+                return;
+            }
+
+            saveWithChildren(prResponse, author, repo, request, reviewers);
+            creation.complete(prResponse.getGithubPrNumber());
+        });
+    }
+
+    /**
+     * GitHub PR 을 닫아 되돌린 요청을 실패로 닫는다. 기록에 실패해도 재조정 작업이 GitHub 을 확인해 마무리한다.
+     */
+    public void markFailed(Long creationId, String reason) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> pullRequestCreationRepository.findByIdForUpdate(
+                            creationId)
+                    .filter(creation -> creation.getStatus() == PullRequestCreationStatus.PENDING)
+                    .ifPresent(creation -> creation.fail(reason)));
+        } catch (RuntimeException e) {
+            log.error("PR 생성 요청 실패 기록 실패, id: {}", creationId, e);
+        }
+    }
+
+    /**
+     * 요청 처리 시간(grace)이 지나도 PENDING 인 생성 요청을 GitHub 과 맞춘다.
+     */
+    @Scheduled(fixedDelayString = "${github.pr-create.reconcile-interval:PT1M}")
+    public void reconcile() {
+        List<PullRequestCreation> claimed = transactionTemplate.execute(status -> {
+            List<PullRequestCreation> creations = pullRequestCreationRepository.findReconcilable(LocalDateTime.now(),
+                    batchSize);
+            creations.forEach(creation -> creation.claim(lease));
+            return creations;
+        });
+
+        for (PullRequestCreation creation : claimed) {
+            try {
+                reconcileOne(creation);
+            } catch (Exception e) {
+                log.warn("[PR 생성 재조정 실패] id: {}, 시도: {}, 원인: {}", creation.getId(), creation.getAttempts(),
+                        e.getMessage(), e);
+                transactionTemplate.executeWithoutResult(status -> pullRequestCreationRepository.findByIdForUpdate(
+                                creation.getId())
+                        .filter(managed -> managed.getStatus() == PullRequestCreationStatus.PENDING)
+                        .ifPresent(managed -> managed.retryLater(e.getMessage(), maxAttempts, lease)));
+            }
+        }
+    }
+
+    private void reconcileOne(PullRequestCreation creation) throws IOException {
+        Optional<Repo> foundRepo = transactionTemplate.execute(status -> repoRepository.findById(creation.getRepoId())
+                .map(repo -> {
+                    Hibernate.initialize(repo.getAccount());
+                    return repo;
+                }));
+        Optional<User> author = userRepository.findById(creation.getAuthorId());
+        if (foundRepo.isEmpty() || author.isEmpty()) {
+            failCreation(creation.getId(), "레포지토리 또는 작성자가 삭제되었습니다.");
+            return;
+        }
+        Repo repo = foundRepo.get();
+
+        Optional<GHPullRequest> githubPullRequest = findCreatedPullRequest(repo, creation);
+        if (githubPullRequest.isEmpty()) {
+            // GitHub 에 만들어지지 않았다. (GitHub 호출 실패 후 요청 스레드가 끝난 경우)
+            failCreation(creation.getId(), "GitHub 에 생성된 PR 이 없습니다.");
+            return;
+        }
+
+        PullRequestCreateRequest request = objectMapper.readValue(creation.getPayload(),
+                PullRequestCreateRequest.class);
+        List<User> reviewers = reviewerResolver.resolveUsers(request.getReviewers()
+                .stream()
+                .map(UserInfo::getId)
+                .toList());
+
+        complete(creation.getId(), GithubPrResponse.from(githubPullRequest.get()), author.get(), repo, request,
+                reviewers);
+        log.warn("[PR 생성 재조정] DB 에 저장되지 않은 GitHub PR 을 저장했습니다. repo: {}, PR 번호: {}", repo.getFullName(),
+                githubPullRequest.get()
+                        .getNumber());
+    }
+
+    /**
+     * 요청 시각 이후 같은 head/base 로 만들어진 PR 중 가장 먼저 만들어진 것을 찾는다.
+     * 병합되지 않고 닫힌 PR 은 저장 실패 후 보상으로 닫은 PR 일 수 있으므로 완료 후보로 보지 않는다. (실패 기록이 누락된 경우)
+     */
+    private Optional<GHPullRequest> findCreatedPullRequest(Repo repo, PullRequestCreation creation)
+            throws IOException {
+        String fullName = repo.getFullName();
+        GHRepository githubRepository = githubApiClient.getRepository(repo.getAccount()
+                .getInstallationId(), fullName);
+        Date since = Date.from(creation.getCreatedAt()
+                .minus(CLOCK_SKEW)
+                .atZone(ZoneId.systemDefault())
+                .toInstant());
+
+        List<GHPullRequest> candidates = githubRepository.queryPullRequests()
+                .state(GHIssueState.ALL)
+                .head(fullName.substring(0, fullName.indexOf('/')) + ":" + creation.getSource())
+                .base(creation.getTarget())
+                .list()
+                .toList();
+
+        for (GHPullRequest candidate : candidates.stream()
+                .sorted(Comparator.comparingInt(GHPullRequest::getNumber))
+                .toList()) {
+            boolean closedWithoutMerge = candidate.getState() == GHIssueState.CLOSED && candidate.getMergedAt() == null;
+            if (!closedWithoutMerge && !candidate.getCreatedAt()
+                    .before(since)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 동기화가 먼저 PR 행을 만들었으면 그 행에 요약과 하위 행을 붙인다.
+     */
+    private void saveWithChildren(GithubPrResponse prResponse, User author, Repo repo,
+            PullRequestCreateRequest request, List<User> reviewers) {
+        PullRequest pullRequest = pullRequestRepository.findAllByRepoAndGithubPrNumberIn(repo,
+                        List.of(prResponse.getGithubPrNumber()))
+                .stream()
+                .findFirst()
+                .orElseGet(() -> pullRequestMapper.githubPrResponseToEntity(prResponse, author, repo));
+        pullRequest.enrollSummary(request.getSummary());
+        PullRequest savePullRequest = pullRequestRepository.save(pullRequest);
+
+        // 테이블별 JDBC 배치 한 번 (IDENTITY 키 엔티티의 saveAll 은 행마다 insert 한다)
+        pullRequestChildRowJdbcRepository.insertReviewers(savePullRequest.getId(), reviewers.stream()
+                .map(User::getId)
+                .toList());
+        pullRequestChildRowJdbcRepository.insertPriorities(savePullRequest.getId(), request.getPriorities());
+        pullRequestChildRowJdbcRepository.insertDescriptions(savePullRequest.getId(), request.getDescriptions());
+    }
+
+    private void failCreation(Long creationId, String reason) {
+        transactionTemplate.executeWithoutResult(status -> pullRequestCreationRepository.findByIdForUpdate(creationId)
+                .filter(creation -> creation.getStatus() == PullRequestCreationStatus.PENDING)
+                .ifPresent(creation -> creation.fail(reason)));
+        log.warn("[PR 생성 재조정] 실패로 닫음, id: {}, 원인: {}", creationId, reason);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ssafy.ottereview.pullrequest.entity;
+
+public enum PullRequestCreationStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
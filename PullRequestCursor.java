@@ -0,0 +1,45 @@
+package com.ssafy.ottereview.pullrequest.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * PR 목록 키셋 페이지네이션용 커서
+ * 마지막으로 내려준 행의 (githubUpdatedAt, id)를 클라이언트에 불투명한 문자열로 전달한다.
+ * github_updated_at 은 NOT NULL 이므로 커서 값도 null 이 아니다.
+ */
+public record PullRequestCursor(LocalDateTime updatedAt, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public PullRequestCursor {
+        if (updatedAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor values must not be null");
+        }
+    }
+
+    public String encode() {
+        String raw = updatedAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PullRequestCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder()
+                    .decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(DELIMITER);
+            return new PullRequestCursor(LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ssafy.ottereview.pullrequest.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestCommitInfo;
+import com.ssafy.ottereview.pullrequest.dto.info.PullRequestFileInfo;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.event.PullRequestSynchronizedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PR 상세 화면의 GitHub 파일 변경/커밋 목록 read-through 캐시
+ * (레포지토리, PR 번호, PR 버전, 무효화 세대) 단위로 저장하며, 크기와 TTL 로 제한하고 synchronize 웹훅에서 무효화한다.
+ * 웹훅은 한 노드에서만 처리되므로 무효화는 Redis pub/sub 으로 모든 노드에 전파한다.
+ * 무효화하면 PR 의 세대를 올리므로, 무효화 전에 시작한 조회가 끝나 예전 값을 넣어도 새 키로 조회하는 요청에는 보이지 않는다.
+ */
+@Slf4j
+@Component
+public class PullRequestDetailCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "pull-request-detail:invalidate";
+
+    private static final char KEY_SEPARATOR = '#';
+
+    private final Cache<DetailKey, List<PullRequestFileInfo>> fileChangesCache;
+    private final Cache<DetailKey, List<PullRequestCommitInfo>> commitsCache;
+
+    // PR(레포지토리#PR 번호)별 무효화 세대. 값 캐시보다 오래 유지해 세대가 초기화되며 예전 값이 다시 보이지 않게 한다.
+    private final Cache<String, Long> generations;
+    private final AtomicLong generationSequence = new AtomicLong();
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public PullRequestDetailCache(StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${github.detail-cache.maximum-size:2000}") long maximumSize,
+            @Value("${github.detail-cache.ttl:PT10M}") Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.fileChangesCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.commitsCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(ttl.multipliedBy(2))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, fileChangesCache, "pullRequestFileChanges");
+        CaffeineCacheMetrics.monitor(meterRegistry, commitsCache, "pullRequestCommits");
+    }
+
+    /**
+     * 캐시 키는 엔티티 연관관계를 읽으므로 요청 스레드에서 만들어 전달한다.
+     */
+    public DetailKey keyOf(PullRequest pullRequest) {
+        String repositoryFullName = pullRequest.getRepo()
+                .getFullName();
+        Long generation = generations.getIfPresent(pullRequestKey(repositoryFullName, pullRequest.getGithubPrNumber()));
+        return new DetailKey(repositoryFullName, pullRequest.getGithubPrNumber(),
+                String.valueOf(pullRequest.getGithubUpdatedAt()), generation != null ? generation : 0L);
+    }
+
+    public List<PullRequestFileInfo> getFileChanges(DetailKey key, Supplier<List<PullRequestFileInfo>> loader) {
+        return fileChangesCache.get(key, k -> loader.get());
+    }
+
+    public List<PullRequestCommitInfo> getCommits(DetailKey key, Supplier<List<PullRequestCommitInfo>> loader) {
+        return commitsCache.get(key, k -> loader.get());
+    }
+
+    /**
+     * PR 에 새 커밋이 push 되면 이 노드의 캐시를 바로 제거하고 다른 노드에도 무효화를 알린다.
+     */
+    @EventListener
+    public void evict(PullRequestSynchronizedEvent event) {
+        evictLocal(event.repositoryFullName(), event.githubPrNumber());
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                pullRequestKey(event.repositoryFullName(), event.githubPrNumber()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            log.warn("잘못된 PR 상세 캐시 무효화 메시지: {}", body);
+            return;
+        }
+
+        evictLocal(body.substring(0, separator), Integer.valueOf(body.substring(separator + 1)));
+    }
+
+    /**
+     * 해당 PR 의 세대를 올리고 모든 버전 캐시를 제거한다.
+     * 세대를 먼저 올려야 제거 직후 시작한 조회가 예전 키로 다시 채우지 않는다.
+     */
+    private void evictLocal(String repositoryFullName, Integer githubPrNumber) {
+        generations.put(pullRequestKey(repositoryFullName, githubPrNumber), generationSequence.incrementAndGet());
+        fileChangesCache.asMap()
+                .keySet()
+                .removeIf(key -> key.matches(repositoryFullName, githubPrNumber));
+        commitsCache.asMap()
+                .keySet()
+                .removeIf(key -> key.matches(repositoryFullName, githubPrNumber));
+
+        log.debug("PR 상세 캐시 무효화, repo: {}, PR 번호: {}", repositoryFullName, githubPrNumber);
+    }
+
+    private static String pullRequestKey(String repositoryFullName, Integer githubPrNumber) {
+        return repositoryFullName + KEY_SEPARATOR + githubPrNumber;
+    }
+
+    /**
+     * PR 버전은 GitHub 갱신 시각을 사용한다.
+     * 다른 노드에서 무효화 이벤트를 받지 못하더라도 PR 이 갱신되면 새 키로 조회하게 된다.
+     * generation 은 이 노드에서 PR 을 무효화한 세대이다.
+     */
+    public record DetailKey(String repositoryFullName, Integer githubPrNumber, String version, long generation) {
+
+        boolean matches(String repositoryFullName, Integer githubPrNumber) {
+            return this.repositoryFullName.equals(repositoryFullName)
+                    && Objects.equals(this.githubPrNumber, githubPrNumber);
+        }
+    }
+}
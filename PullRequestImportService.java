@@ -0,0 +1,317 @@
+package com.ssafy.ottereview.pullrequest.service;
+
+import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.githubapp.metrics.GithubRateLimitMetrics;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestSyncStateRedisRepository;
+import com.ssafy.ottereview.pullrequest.util.PullRequestMapper;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.repo.repository.RepoRepository;
+import com.ssafy.ottereview.reviewer.entity.Reviewer;
+import com.ssafy.ottereview.reviewer.repository.ReviewerRepository;
+import com.ssafy.ottereview.user.entity.User;
+import com.ssafy.ottereview.user.service.GithubUserResolver;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHUser;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * GitHub App 설치 시 레포지토리들의 열린 PR 을 가져와 저장하는 서비스
+ * 레포지토리 단위로 가상 스레드에서 병렬 조회하고, 저장은 레포지토리별 트랜잭션으로 분리한다.
+ * rate limit 예산이 부족해 미룬 레포지토리는 rate limit 초기화 시각 이후에 다시 가져온다.
+ */
+@Slf4j
+@Service
+public class PullRequestImportService {
+
+    private static final Duration RESET_MARGIN = Duration.ofSeconds(30);
+
+    private final GithubApiClient githubApiClient;
+    private final GithubRateLimitMetrics githubRateLimitMetrics;
+    private final PullRequestRepository pullRequestRepository;
+    private final RepoRepository repoRepository;
+    private final GithubUserResolver githubUserResolver;
+    private final ReviewerRepository reviewerRepository;
+    private final PullRequestMapper pullRequestMapper;
+    private final PullRequestSyncStateRedisRepository syncStateRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final TaskDecorator taskDecorator;
+    private final int concurrency;
+    private final int rateLimitReserve;
+    private final int maxDeferrals;
+
+    public PullRequestImportService(GithubApiClient githubApiClient,
+            GithubRateLimitMetrics githubRateLimitMetrics,
+            PullRequestRepository pullRequestRepository,
+            RepoRepository repoRepository,
+            GithubUserResolver githubUserResolver,
+            ReviewerRepository reviewerRepository,
+            PullRequestMapper pullRequestMapper,
+            PullRequestSyncStateRedisRepository syncStateRepository,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler,
+            ObjectProvider<TaskDecorator> taskDecorator,
+            @Value("${github.import.concurrency:8}") int concurrency,
+            @Value("${github.import.rate-limit-reserve:200}") int rateLimitReserve,
+            @Value("${github.import.max-deferrals:5}") int maxDeferrals) {
+        this.githubApiClient = githubApiClient;
+        this.githubRateLimitMetrics = githubRateLimitMetrics;
+        this.pullRequestRepository = pullRequestRepository;
+        this.repoRepository = repoRepository;
+        this.githubUserResolver = githubUserResolver;
+        this.reviewerRepository = reviewerRepository;
+        this.pullRequestMapper = pullRequestMapper;
+        this.syncStateRepository = syncStateRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskScheduler = taskScheduler;
+        this.taskDecorator = taskDecorator.getIfUnique(() -> task -> task);
+        this.concurrency = concurrency;
+        this.rateLimitReserve = rateLimitReserve;
+        this.maxDeferrals = maxDeferrals;
+    }
+
+    /**
+     * 레포지토리 목록의 열린 PR 을 가져와 저장하는 메서드
+     * 한 레포지토리가 실패해도 다른 레포지토리의 저장 결과는 유지되며,
+     * 이미 가져온 레포지토리(가져오기 완료 시각이 있는 레포지토리)는 다시 호출해도 건너뛴다.
+     *
+     * @param githubRepositories GitHub 레포지토리 목록
+     * @return 가져오기 결과
+     */
+    public ImportResult importAll(List<GHRepository> githubRepositories) {
+        return importAll(githubRepositories, 0);
+    }
+
+    private ImportResult importAll(List<GHRepository> githubRepositories, int deferralCount) {
+        int total = githubRepositories.size();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger imported = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        List<String> failedRepositories = Collections.synchronizedList(new ArrayList<>());
+        List<GHRepository> deferredRepositories = Collections.synchronizedList(new ArrayList<>());
+        List<Instant> rateLimitResets = Collections.synchronizedList(new ArrayList<>());
+
+        Semaphore permits = new Semaphore(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (GHRepository githubRepository : githubRepositories) {
+                executor.submit(taskDecorator.decorate(() -> {
+                    try {
+                        permits.acquire();
+                        try {
+                            ImportOutcome outcome = importRepository(githubRepository);
+                            switch (outcome.kind()) {
+                                case IMPORTED -> imported.incrementAndGet();
+                                case ALREADY_IMPORTED -> skipped.incrementAndGet();
+                                case DEFERRED -> {
+                                    deferredRepositories.add(githubRepository);
+                                    rateLimitResets.add(outcome.rateLimitReset());
+                                }
+                            }
+                        } finally {
+                            permits.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread()
+                                .interrupt();
+                        failedRepositories.add(githubRepository.getFullName());
+                    } catch (Exception e) {
+                        log.error("[PR 가져오기 실패] repo: {}, 원인: {}", githubRepository.getFullName(),
+                                e.getMessage(), e);
+                        failedRepositories.add(githubRepository.getFullName());
+                    } finally {
+                        log.info("[PR 가져오기 진행] {}/{} ({})", completed.incrementAndGet(), total,
+                                githubRepository.getFullName());
+                    }
+                }));
+            }
+        }
+
+        ImportResult result = new ImportResult(total, imported.get(), skipped.get(), deferredRepositories.size(),
+                List.copyOf(failedRepositories));
+        if (!result.failedRepositories()
+                .isEmpty() || result.deferred() > 0) {
+            log.warn("[PR 가져오기 완료] 실패한 레포지토리는 다시 호출하면 이어서 가져옵니다. 결과: {}", result);
+        } else {
+            log.info("[PR 가져오기 완료] 결과: {}", result);
+        }
+
+        if (!deferredRepositories.isEmpty()) {
+            scheduleDeferred(List.copyOf(deferredRepositories), List.copyOf(rateLimitResets), deferralCount + 1);
+        }
+
+        return result;
+    }
+
+    /**
+     * rate limit 때문에 미룬 레포지토리를 가장 늦은 초기화 시각 이후에 다시 가져온다.
+     * 재시도 횟수를 넘기면 다음 설치 이벤트나 수동 호출로 넘긴다.
+     */
+    private void scheduleDeferred(List<GHRepository> deferredRepositories, List<Instant> rateLimitResets,
+            int deferralCount) {
+        if (deferralCount > maxDeferrals) {
+            log.warn("[PR 가져오기 보류] 재시도 횟수를 넘겨 더 미루지 않습니다. 레포지토리 수: {}, 재시도: {}",
+                    deferredRepositories.size(), maxDeferrals);
+            return;
+        }
+
+        Instant retryAt = rateLimitResets.stream()
+                .filter(Objects::nonNull)
+                .max(Instant::compareTo)
+                .orElseGet(Instant::now)
+                .plus(RESET_MARGIN);
+
+        log.info("[PR 가져오기 보류] 레포지토리 {}개를 {} 에 다시 가져옵니다. ({}/{})", deferredRepositories.size(), retryAt,
+                deferralCount, maxDeferrals);
+        // 스케줄러 스레드는 웹훅 폴링과 공유하므로 가져오기는 가상 스레드에서 돌린다.
+        taskScheduler.schedule(() -> Thread.ofVirtual()
+                .name("pr-import-retry")
+                .start(() -> importAll(deferredRepositories, deferralCount)), retryAt);
+    }
+
+    /**
+     * 레포지토리 하나의 열린 PR 을 가져와 저장한다.
+     *
+     * @return 저장했는지, 이미 가져왔는지, rate limit 예산이 부족해 미뤘는지
+     */
+    private ImportOutcome importRepository(GHRepository githubRepository) {
+        Repo targetRepo = repoRepository.findByRepoId(githubRepository.getId())
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Repository not found with id: " + githubRepository.getId()));
+
+        // 1. 이미 가져온 레포지토리는 건너뛴다.
+        if (syncStateRepository.isImported(targetRepo.getId())) {
+            log.debug("이미 가져온 레포지토리입니다. repo: {}", githubRepository.getFullName());
+            return ImportOutcome.ALREADY_IMPORTED;
+        }
+
+        // 2. 남은 rate limit 이 예약분보다 적으면 초기화 이후로 미룬다. (GithubApiClient 응답에서 기록한 설치별 마지막 값)
+        Long installationId = targetRepo.getAccount()
+                .getInstallationId();
+        GHRateLimit rateLimit = githubRateLimitMetrics.lastRateLimit(installationId);
+        if (rateLimit != null && rateLimit.getRemaining() < rateLimitReserve) {
+            log.warn("[PR 가져오기 보류] rate limit 부족, repo: {}, remaining: {}, reset: {}",
+                    githubRepository.getFullName(), rateLimit.getRemaining(), rateLimit.getResetDate());
+            return ImportOutcome.deferredUntil(rateLimit.getResetDate()
+                    .toInstant());
+        }
+
+        // 3. GitHub 조회는 트랜잭션 밖에서 수행한다. GithubApiClient 를 거치므로 응답의 rate limit 도 기록된다.
+        Instant importStartedAt = Instant.now();
+        List<GithubPrResponse> githubPrResponses = githubApiClient.getPullRequests(installationId,
+                githubRepository.getFullName());
+
+        // 4. 작성자와 리뷰어는 레포지토리 트랜잭션 전에 등록해 두고, 레포지토리별 트랜잭션으로 저장한다.
+        List<GithubPrResponse> newGithubPrs = filterNewPullRequests(targetRepo, githubPrResponses);
+        List<GHUser> githubUsers = new ArrayList<>();
+        for (GithubPrResponse githubPr : newGithubPrs) {
+            githubUsers.add(githubPr.getAuthor());
+            githubUsers.addAll(githubPr.getRequestedReviewers());
+        }
+        githubUserResolver.resolveAll(githubUsers);
+
+        transactionTemplate.executeWithoutResult(status -> savePullRequests(targetRepo, newGithubPrs, githubUsers));
+
+        // 5. 커밋된 뒤 가져오기 완료를 기록하고, 조회 시작 시점을 동기화 기준 시각으로 쓴다.
+        syncStateRepository.saveHighWaterMark(targetRepo.getId(), importStartedAt);
+        syncStateRepository.markImported(targetRepo.getId(), importStartedAt);
+
+        log.info("Repo ID: {}, Full Name: {}, 가져온 PR 수: {}", githubRepository.getId(),
+                githubRepository.getFullName(), githubPrResponses.size());
+        return ImportOutcome.IMPORTED;
+    }
+
+    /**
+     * 이미 저장된 PR(완료 기록 전에 실패한 이전 가져오기, 먼저 실행된 동기화 등)을 뺀 목록을 반환한다.
+     */
+    private List<GithubPrResponse> filterNewPullRequests(Repo targetRepo, List<GithubPrResponse> githubPrResponses) {
+        Set<Integer> githubPrNumbers = githubPrResponses.stream()
+                .map(GithubPrResponse::getGithubPrNumber)
+                .collect(Collectors.toSet());
+        Set<Integer> existingPrNumbers = pullRequestRepository.findAllByRepoAndGithubPrNumberIn(targetRepo,
+                        githubPrNumbers)
+                .stream()
+                .map(PullRequest::getGithubPrNumber)
+                .collect(Collectors.toSet());
+        return githubPrResponses.stream()
+                .filter(githubPr -> !existingPrNumbers.contains(githubPr.getGithubPrNumber()))
+                .toList();
+    }
+
+    private void savePullRequests(Repo targetRepo, List<GithubPrResponse> newGithubPrs, List<GHUser> githubUsers) {
+        // 1. 미리 등록한 작성자와 리뷰어를 이 트랜잭션의 영속 엔티티로 잠금 없이 조회한다.
+        Map<Long, User> usersByGithubId = githubUserResolver.findAllByGithubIds(githubUsers.stream()
+                .map(GHUser::getId)
+                .collect(Collectors.toSet()));
+
+        // 2. GitHub PR 응답을 PullRequest 엔티티로 변환
+        List<PullRequest> newPullRequests = new ArrayList<>();
+        List<Reviewer> newReviewers = new ArrayList<>();
+
+        for (GithubPrResponse githubPr : newGithubPrs) {
+            log.debug("github title: {}, author: {}", githubPr.getTitle(), githubPr.getAuthor()
+                    .getLogin());
+
+            User author = usersByGithubId.get(githubPr.getAuthor()
+                    .getId());
+            PullRequest pullRequest = pullRequestMapper.githubPrResponseToEntity(githubPr, author, targetRepo);
+
+            for (GHUser user : githubPr.getRequestedReviewers()) {
+                newReviewers.add(Reviewer.builder()
+                        .pullRequest(pullRequest)
+                        .user(usersByGithubId.get(user.getId()))
+                        .build());
+            }
+            newPullRequests.add(pullRequest);
+        }
+
+        if (!newPullRequests.isEmpty()) {
+            pullRequestRepository.saveAll(newPullRequests);
+            reviewerRepository.saveAll(newReviewers);
+        }
+    }
+
+    public record ImportResult(int total, int imported, int skipped, int deferred, List<String> failedRepositories) {
+
+    }
+
+    private record ImportOutcome(Kind kind, Instant rateLimitReset) {
+
+        static final ImportOutcome IMPORTED = new ImportOutcome(Kind.IMPORTED, null);
+        static final ImportOutcome ALREADY_IMPORTED = new ImportOutcome(Kind.ALREADY_IMPORTED, null);
+
+        static ImportOutcome deferredUntil(Instant rateLimitReset) {
+            return new ImportOutcome(Kind.DEFERRED, rateLimitReset);
+        }
+
+        enum Kind {
+            IMPORTED, ALREADY_IMPORTED, DEFERRED
+        }
+    }
+}
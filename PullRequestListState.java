@@ -0,0 +1,64 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.util.PullRequestMapper;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.user.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import org.kohsuke.github.GHPullRequest;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * PR 목록 벤치마크가 함께 쓰는 입력 상태
+ * GitHub 에 열린 PR prCount 개가 있고, DB 에는 그중 90% 와 GitHub 에서 이미 닫힌 PR (prCount 의 10%) 이 있는 상황을 만든다.
+ * DB 에 있는 PR 은 GitHub 값과 같으므로 기존 PR 은 변경 비교(hasChangedFrom)만 하고 수정되지 않는다.
+ */
+@State(Scope.Benchmark)
+public class PullRequestListState {
+
+    @Param({"100", "10000", "100000"})
+    int prCount;
+
+    List<GHPullRequest> githubPullRequests;
+    List<GithubPrResponse> githubPrResponses;
+    List<PullRequest> existingPullRequests;
+    PullRequestMapper pullRequestMapper;
+    User user;
+    Repo repo;
+
+    @Setup
+    public void setUp() {
+        pullRequestMapper = new PullRequestMapper();
+        user = User.builder()
+                .githubId(103165796L)
+                .githubUsername("kangboom")
+                .build();
+        repo = Repo.builder()
+                .repoId(1032206976L)
+                .fullName("kangboom/ottereview-test")
+                .build();
+
+        // 앞의 prCount 개는 열린 PR, 나머지는 DB 에만 남아 있는 닫힌 PR 로 쓴다.
+        List<GHPullRequest> allPullRequests = BenchmarkFixtures.pullRequests(prCount + prCount / 10);
+        githubPullRequests = allPullRequests.subList(0, prCount);
+        githubPrResponses = githubPullRequests.stream()
+                .map(GithubPrResponse::from)
+                .toList();
+
+        existingPullRequests = new ArrayList<>(prCount);
+        for (int i = 0; i < allPullRequests.size(); i++) {
+            // 열린 PR 중 10% 는 아직 DB 에 없는 새 PR 이다.
+            if (i < prCount && i % 10 == 0) {
+                continue;
+            }
+            GithubPrResponse githubPr = i < prCount ? githubPrResponses.get(i)
+                    : GithubPrResponse.from(allPullRequests.get(i));
+            existingPullRequests.add(pullRequestMapper.githubPrResponseToEntity(githubPr, user, repo));
+        }
+    }
+}
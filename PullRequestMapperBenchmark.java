@@ -0,0 +1,54 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.pullrequest.dto.response.PullRequestResponse;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * PullRequestMapper 의 목록 변환 비용 측정
+ * 동기화에서 쓰는 GitHub 응답 → 엔티티 변환과, PR 목록 API 에서 쓰는 엔티티 → 응답 DTO 변환을 PR 100 ~ 100k 개로 측정한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PullRequestMapperBenchmark {
+
+    @Benchmark
+    public List<PullRequest> githubPrResponseToEntity(PullRequestListState state) {
+        List<PullRequest> pullRequests = new ArrayList<>(state.githubPrResponses.size());
+        for (GithubPrResponse githubPr : state.githubPrResponses) {
+            pullRequests.add(state.pullRequestMapper.githubPrResponseToEntity(githubPr, state.user, state.repo));
+        }
+        return pullRequests;
+    }
+
+    @Benchmark
+    public List<PullRequestResponse> pullRequestToResponse(PullRequestListState state) {
+        return state.existingPullRequests.stream()
+                .map(state.pullRequestMapper::PullRequestToResponse)
+                .toList();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PullRequestMapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.ottereview.pullrequest.controller;
+
+import com.ssafy.ottereview.common.sql.SqlStatementBudget;
+import com.ssafy.ottereview.pullrequest.dto.request.PullRequestSearchCondition;
+import com.ssafy.ottereview.pullrequest.dto.response.PullRequestSliceResponse;
+import com.ssafy.ottereview.pullrequest.service.PullRequestQueryService;
+import com.ssafy.ottereview.user.entity.CustomUserDetail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * PR 목록 커서 페이지 조회 API
+ * state, authorId, updatedSince 필터와 이전 응답의 nextCursor, size 를 쿼리 파라미터로 받는다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/repositories/{repo-id}/pull-requests")
+public class PullRequestQueryController {
+
+    private final PullRequestQueryService pullRequestQueryService;
+
+    /**
+     * 권한 확인(캐시 미스 시 레포지토리, 계정, 소속 조회)과 목록 프로젝션 조회만 실행한다.
+     */
+    @SqlStatementBudget(4)
+    @GetMapping("/slice")
+    public ResponseEntity<PullRequestSliceResponse> getPullRequestSlice(
+            @AuthenticationPrincipal CustomUserDetail customUserDetail,
+            @PathVariable("repo-id") Long repoId,
+            @ModelAttribute PullRequestSearchCondition condition) {
+
+        return ResponseEntity.ok(pullRequestQueryService.getPullRequestSlice(customUserDetail, repoId, condition));
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.ottereview.pullrequest.service;
+
+import com.ssafy.ottereview.account.service.RepoPermissionCache;
+import com.ssafy.ottereview.pullrequest.dto.projection.PullRequestSummary;
+import com.ssafy.ottereview.pullrequest.dto.request.PullRequestSearchCondition;
+import com.ssafy.ottereview.pullrequest.dto.response.PullRequestSliceResponse;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
+import com.ssafy.ottereview.pullrequest.util.PullRequestCursor;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.user.entity.CustomUserDetail;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class PullRequestQueryService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final RepoPermissionCache repoPermissionCache;
+    private final PullRequestRepository pullRequestRepository;
+
+    /**
+     * 레포지토리의 PR 목록을 커서 기반으로 한 페이지씩 조회하는 메서드
+     * 메모리 사용량과 응답 시간이 레포지토리의 전체 PR 수가 아닌 페이지 크기에 비례한다.
+     *
+     * @param customUserDetail 로그인 사용자
+     * @param repoId           대상 저장소 ID
+     * @param condition        상태/작성자/갱신 시각 필터와 커서, 페이지 크기
+     */
+    public PullRequestSliceResponse getPullRequestSlice(CustomUserDetail customUserDetail, Long repoId,
+            PullRequestSearchCondition condition) {
+
+        // 1. 사용자 권한 검증 및 레포지토리 조회
+        Repo targetRepo = repoPermissionCache.validateUserPermission(customUserDetail.getUser()
+                .getId(), repoId);
+
+        int size = resolvePageSize(condition.getSize());
+        PullRequestCursor cursor = PullRequestCursor.decode(condition.getCursor());
+
+        // 2. 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PullRequestSummary> rows = pullRequestRepository.findSummariesByRepo(targetRepo,
+                condition.getState(),
+                condition.getAuthorId(),
+                condition.getUpdatedSince(),
+                cursor,
+                Limit.of(size + 1));
+
+        // 3. 페이지 자르기 및 다음 커서 생성
+        boolean hasNext = rows.size() > size;
+        List<PullRequestSummary> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PullRequestSummary last = page.get(page.size() - 1);
+            nextCursor = new PullRequestCursor(last.getGithubUpdatedAt(), last.getId()).encode();
+        }
+
+        return PullRequestSliceResponse.builder()
+                .pullRequests(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
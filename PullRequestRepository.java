@@ -1,11 +1,19 @@
 package com.ssafy.ottereview.pullrequest.repository;
 
+import com.ssafy.ottereview.pullrequest.dto.projection.PullRequestSummary;
 import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.util.PullRequestCursor;
 import com.ssafy.ottereview.repo.entity.Repo;
 import com.ssafy.ottereview.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,15 +23,90 @@ public interface PullRequestRepository extends JpaRepository<PullRequest, Long>
 
     List<PullRequest> findAllByAuthor(User author);
 
-    Optional<PullRequest> findByGithubId(Long githubId);
+    /**
+     * 목록 응답 변환에 필요한 작성자, 레포지토리, 계정, 리뷰어를 함께 조회하는 메서드
+     * 매핑 중 지연 로딩으로 PR 마다 추가 쿼리가 나가지 않게 한다.
+     */
+    @EntityGraph(attributePaths = {"author", "repo", "repo.account", "reviewers", "reviewers.user"})
+    List<PullRequest> findWithAuthorAndRepoByRepo(Repo repo);
 
-    
-    List<PullRequest> findAllByRepo(Repo repo);
+    @EntityGraph(attributePaths = {"author", "repo", "repo.account", "reviewers", "reviewers.user"})
+    List<PullRequest> findWithAuthorAndRepoByAuthor(User author);
 
-    List<PullRequest> findAllByAuthor(User author);
+    /**
+     * 상세 조회용으로 레포지토리, 계정(installationId), 작성자, 리뷰어를 한 번에 조회하는 메서드
+     */
+    @Query("""
+            select pr
+            from PullRequest pr
+            join fetch pr.repo r
+            join fetch r.account
+            join fetch pr.author
+            left join fetch pr.reviewers rv
+            left join fetch rv.user
+            where pr.id = :id
+            """)
+    Optional<PullRequest> findDetailById(@Param("id") Long id);
 
     Optional<PullRequest> findByGithubId(Long githubId);
-    
-    List<PullRequest> findAllByRepo(Repo repo);
 
+    Optional<PullRequest> findByRepoAndBaseAndHead(Repo repo, String base, String head);
+
+    List<PullRequest> findAllByRepoAndGithubPrNumberIn(Repo repo, Collection<Integer> githubPrNumbers);
+
+    /**
+     * 레포지토리의 PR 목록을 커서(키셋) 기반으로 조회하는 메서드
+     */
+    default List<PullRequestSummary> findSummariesByRepo(Repo repo, String state, Long authorId,
+            LocalDateTime updatedSince, PullRequestCursor cursor, Limit limit) {
+        return findSummariesByRepo(repo, state, authorId, updatedSince,
+                cursor != null ? cursor.updatedAt() : null, cursor != null ? cursor.id() : null, limit);
+    }
+
+    /**
+     * 레포지토리의 PR 목록을 커서(키셋) 기반으로 조회하는 메서드
+     * (githubUpdatedAt, id) 내림차순으로 정렬하고, 목록 화면에 필요한 컬럼만 프로젝션으로 가져온다.
+     * github_updated_at 은 NOT NULL 이므로 (repo_id, github_updated_at, id) 인덱스 범위만 읽는다. (PullRequestUpdatedAtMigration)
+     *
+     * @param repo            대상 저장소
+     * @param state           PR 상태 필터 (null 이면 전체)
+     * @param authorId        작성자 필터 (null 이면 전체)
+     * @param updatedSince    이 시각 이후에 갱신된 PR만 조회 (null 이면 전체)
+     * @param cursorUpdatedAt 이전 페이지 마지막 행의 githubUpdatedAt (첫 페이지면 null)
+     * @param cursorId        이전 페이지 마지막 행의 id (첫 페이지면 null)
+     * @param limit           조회할 최대 행 수
+     */
+    @Query("""
+            select pr.id as id,
+                   pr.githubPrNumber as githubPrNumber,
+                   pr.title as title,
+                   pr.state as state,
+                   pr.head as head,
+                   pr.base as base,
+                   pr.merged as merged,
+                   pr.approveCnt as approveCnt,
+                   pr.commentCnt as commentCnt,
+                   pr.githubCreatedAt as githubCreatedAt,
+                   pr.githubUpdatedAt as githubUpdatedAt,
+                   a.id as authorId,
+                   a.githubUsername as authorGithubUsername,
+                   a.profileImageUrl as authorProfileImageUrl
+            from PullRequest pr
+            join pr.author a
+            where pr.repo = :repo
+              and (:state is null or pr.state = :state)
+              and (:authorId is null or a.id = :authorId)
+              and (:updatedSince is null or pr.githubUpdatedAt >= :updatedSince)
+              and (:cursorUpdatedAt is null
+                   or pr.githubUpdatedAt < :cursorUpdatedAt
+                   or (pr.githubUpdatedAt = :cursorUpdatedAt and pr.id < :cursorId))
+            order by pr.githubUpdatedAt desc, pr.id desc
+            """)
+    List<PullRequestSummary> findSummariesByRepo(@Param("repo") Repo repo,
+            @Param("state") String state,
+            @Param("authorId") Long authorId,
+            @Param("updatedSince") LocalDateTime updatedSince,
+            @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
 }
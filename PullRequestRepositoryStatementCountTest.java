@@ -0,0 +1,140 @@
+package com.ssafy.ottereview.pullrequest.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.ottereview.account.entity.Account;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.reviewer.entity.Reviewer;
+import com.ssafy.ottereview.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * PR 목록/상세 조회가 응답 변환에 쓰는 연관(작성자, 레포지토리, 계정, 리뷰어)을 PR 수와 관계없이 한 번의 SQL 로 가져오는지 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PullRequestRepositoryStatementCountTest {
+
+    private static final int PULL_REQUEST_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PullRequestRepository pullRequestRepository;
+
+    private Statistics statistics;
+    private Repo repo;
+    private User author;
+    private Long firstPullRequestId;
+
+    @BeforeEach
+    void setUp() {
+        Account account = entityManager.persist(Account.builder()
+                .installationId(78299031L)
+                .build());
+        repo = entityManager.persist(Repo.builder()
+                .repoId(1032206976L)
+                .fullName("kangboom/ottereview-test")
+                .account(account)
+                .build());
+        author = entityManager.persist(user(103165796L, "kangboom"));
+
+        List<User> reviewers = List.of(entityManager.persist(user(103165797L, "member1")),
+                entityManager.persist(user(103165798L, "member2")));
+
+        for (int number = 1; number <= PULL_REQUEST_COUNT; number++) {
+            PullRequest pullRequest = entityManager.persist(PullRequest.builder()
+                    .githubId(2723459180L + number)
+                    .githubPrNumber(number)
+                    .title("feat: 리뷰 화면 개선 #" + number)
+                    .state("OPEN")
+                    .base("main")
+                    .head("feature/" + number)
+                    .merged(false)
+                    .githubUpdatedAt(LocalDateTime.of(2025, 8, 1, 9, 0)
+                            .plusMinutes(number))
+                    .repo(repo)
+                    .author(author)
+                    .build());
+            if (firstPullRequestId == null) {
+                firstPullRequestId = pullRequest.getId();
+            }
+            for (User reviewer : reviewers) {
+                entityManager.persist(Reviewer.builder()
+                        .pullRequest(pullRequest)
+                        .user(reviewer)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findWithAuthorAndRepoByRepo_loadsListAssociationsInOneStatement() {
+        List<PullRequest> pullRequests = pullRequestRepository.findWithAuthorAndRepoByRepo(repo);
+        pullRequests.forEach(PullRequestRepositoryStatementCountTest::touchAssociations);
+
+        assertThat(pullRequests).hasSize(PULL_REQUEST_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findWithAuthorAndRepoByAuthor_loadsListAssociationsInOneStatement() {
+        List<PullRequest> pullRequests = pullRequestRepository.findWithAuthorAndRepoByAuthor(author);
+        pullRequests.forEach(PullRequestRepositoryStatementCountTest::touchAssociations);
+
+        assertThat(pullRequests).hasSize(PULL_REQUEST_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findDetailById_loadsDetailAssociationsInOneStatement() {
+        PullRequest pullRequest = pullRequestRepository.findDetailById(firstPullRequestId)
+                .orElseThrow();
+        touchAssociations(pullRequest);
+
+        assertThat(pullRequest.getReviewers()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * PullRequestMapper 가 응답을 만들 때 읽는 연관을 모두 읽는다. 지연 로딩이 남아 있으면 여기서 추가 SQL 이 나간다.
+     */
+    private static void touchAssociations(PullRequest pullRequest) {
+        pullRequest.getAuthor()
+                .getGithubUsername();
+        pullRequest.getRepo()
+                .getAccount()
+                .getInstallationId();
+        pullRequest.getReviewers()
+                .forEach(reviewer -> reviewer.getUser()
+                        .getGithubUsername());
+    }
+
+    private static User user(Long githubId, String githubUsername) {
+        return User.builder()
+                .githubId(githubId)
+                .githubUsername(githubUsername)
+                .type("User")
+                .build();
+    }
+}
@@ -1,16 +1,12 @@
 package com.ssafy.ottereview.pullrequest.service;
 
-import com.ssafy.ottereview.account.service.UserAccountService;
-import com.ssafy.ottereview.description.entity.Description;
-import com.ssafy.ottereview.description.repository.DescriptionRepository;
+import com.ssafy.ottereview.account.service.RepoPermissionCache;
 import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.client.GithubCallExecutor;
 import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
-import com.ssafy.ottereview.priority.entity.Priority;
-import com.ssafy.ottereview.priority.repository.PriorityRepository;
+import com.ssafy.ottereview.pullrequest.cache.PullRequestDetailCache;
 import com.ssafy.ottereview.pullrequest.dto.info.PullRequestCommitInfo;
 import com.ssafy.ottereview.pullrequest.dto.info.PullRequestFileInfo;
-import com.ssafy.ottereview.preparation.dto.DescriptionInfo;
-import com.ssafy.ottereview.preparation.dto.PriorityInfo;
 import com.ssafy.ottereview.preparation.dto.UserInfo;
 import com.ssafy.ottereview.pullrequest.dto.request.PullRequestCreateRequest;
 import com.ssafy.ottereview.pullrequest.dto.response.PullRequestDetailResponse;
@@ -19,49 +15,92 @@ import com.ssafy.ottereview.pullrequest.entity.PullRequest;
 import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
 import com.ssafy.ottereview.pullrequest.util.PullRequestMapper;
 import com.ssafy.ottereview.repo.entity.Repo;
-import com.ssafy.ottereview.repo.repository.RepoRepository;
-import com.ssafy.ottereview.reviewer.entity.Reviewer;
-import com.ssafy.ottereview.reviewer.repository.ReviewerRepository;
+import com.ssafy.ottereview.reviewer.service.ReviewerResolver;
 import com.ssafy.ottereview.user.entity.CustomUserDetail;
 import com.ssafy.ottereview.user.entity.User;
 import com.ssafy.ottereview.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
-import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
 import org.kohsuke.github.GHRepository;
-import org.kohsuke.github.GHUser;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 @Slf4j
-@RequiredArgsConstructor
 @Service
 @Transactional
 public class PullRequestServiceImpl implements PullRequestService {
     
+    /**
+     * PR 상세 조회에서 GitHub 호출이 실패하거나 시간이 초과돼 빈 목록으로 내려준 항목 (files, commits)
+     */
+    static final String GITHUB_UNAVAILABLE_HEADER = "X-Github-Unavailable";
+    
     private final GithubApiClient githubApiClient;
     private final PullRequestRepository pullRequestRepository;
-    private final RepoRepository repoRepository;
     private final UserRepository userRepository;
-    private final ReviewerRepository reviewerRepository;
-    private final UserAccountService userAccountService;
-    private final PriorityRepository priorityRepository;
-    private final DescriptionRepository descriptionRepository;
+    private final ReviewerResolver reviewerResolver;
+    private final RepoPermissionCache repoPermissionCache;
     private final PullRequestMapper pullRequestMapper;
+    private final PullRequestSyncService pullRequestSyncService;
+    private final PullRequestImportService pullRequestImportService;
+    private final PullRequestCreationService pullRequestCreationService;
+    private final PullRequestDetailCache pullRequestDetailCache;
+    private final GithubCallExecutor githubCallExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration githubCallTimeout;
+    
+    public PullRequestServiceImpl(GithubApiClient githubApiClient,
+            PullRequestRepository pullRequestRepository,
+            UserRepository userRepository,
+            ReviewerResolver reviewerResolver,
+            RepoPermissionCache repoPermissionCache,
+            PullRequestMapper pullRequestMapper,
+            PullRequestSyncService pullRequestSyncService,
+            PullRequestImportService pullRequestImportService,
+            PullRequestCreationService pullRequestCreationService,
+            PullRequestDetailCache pullRequestDetailCache,
+            GithubCallExecutor githubCallExecutor,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${github.detail.timeout:PT3S}") Duration githubCallTimeout) {
+        this.githubApiClient = githubApiClient;
+        this.pullRequestRepository = pullRequestRepository;
+        this.userRepository = userRepository;
+        this.reviewerResolver = reviewerResolver;
+        this.repoPermissionCache = repoPermissionCache;
+        this.pullRequestMapper = pullRequestMapper;
+        this.pullRequestSyncService = pullRequestSyncService;
+        this.pullRequestImportService = pullRequestImportService;
+        this.pullRequestCreationService = pullRequestCreationService;
+        this.pullRequestDetailCache = pullRequestDetailCache;
+        this.githubCallExecutor = githubCallExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.githubCallTimeout = githubCallTimeout;
+    }
     
+    /**
+     * 레포지토리의 PR 전체를 조회한다. 기존 API 호환용이며, 목록 화면은 PR 수와 무관하게 페이지 크기만큼 읽는
+     * PullRequestQueryService.getPullRequestSlice (GET /api/repositories/{repo-id}/pull-requests/slice) 를 사용한다.
+     */
     @Override
     public List<PullRequestResponse> getPullRequests(CustomUserDetail customUserDetail, Long repoId) {
         // 1. 사용자 권한 검증 및 레포지토리 조회
-        Repo targetRepo = userAccountService.validateUserPermission(customUserDetail.getUser()
+        Repo targetRepo = repoPermissionCache.validateUserPermission(customUserDetail.getUser()
                 .getId(), repoId);
         
         // 2. 해당 레포지토리의 Pull Request 목록 조회
-        List<PullRequest> pullRequests = pullRequestRepository.findAllByRepo(targetRepo);
+        List<PullRequest> pullRequests = pullRequestRepository.findWithAuthorAndRepoByRepo(targetRepo);
         
         // 3. Pull Request 목록을 DTO로 변환하여 반환
         return pullRequests.stream()
@@ -69,31 +108,31 @@ public class PullRequestServiceImpl implements PullRequestService {
                 .toList();
     }
     
+    /**
+     * GitHub 과 동기화한 뒤 PR 목록을 조회한다.
+     * 동기화는 GitHub 조회를 트랜잭션 밖에서, DB 반영을 배치별 트랜잭션으로 하므로 호출 측 트랜잭션에 참여하지 않는다.
+     */
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public List<PullRequestResponse> getPullRequestsByGithub(CustomUserDetail userDetail,
             Long repoId) {
         
-        Repo targetRepo = userAccountService.validateUserPermission(userDetail.getUser()
+        Repo targetRepo = repoPermissionCache.validateUserPermission(userDetail.getUser()
                 .getId(), repoId);
         
-        // 2. Repo 엔티티에서 GitHub 저장소 이름과 설치 ID를 가져온다.
-        String repositoryFullName = targetRepo.getFullName();
-        Long installationId = targetRepo.getAccount()
-                .getInstallationId();
-        
-        // 3. GitHub API를 호출하여 해당 레포지토리의 Pull Request 목록을 가져온다.
-        List<GithubPrResponse> githubPrResponses = githubApiClient.getPullRequests(installationId,
-                repositoryFullName);
-        
-        // 4~8. GitHub PR과 DB PR 동기화
-        synchronizePullRequestsWithGithub(githubPrResponses, targetRepo, userDetail.getUser());
+        // 2~8. GitHub PR과 DB PR 동기화 (기준 시각 이후 변경분만 반영)
+        pullRequestSyncService.synchronize(targetRepo, userDetail.getUser());
         
         // 9. 최종 결과 조회 및 반환 (삭제된 PR 제외)
-        List<PullRequest> finalPullRequests = pullRequestRepository.findAllByRepo(targetRepo);
-        
-        return finalPullRequests.stream()
-                .map(pullRequestMapper::PullRequestToResponse)
-                .toList();
+        return transactionTemplate.execute(status -> {
+            List<PullRequest> finalPullRequests = pullRequestRepository.findWithAuthorAndRepoByRepo(targetRepo);
+            
+            // 응답 변환 시간은 동기화 단계와 따로 기록한다.
+            return meterRegistry.timer("pullrequest.response.map")
+                    .record(() -> finalPullRequests.stream()
+                            .map(pullRequestMapper::PullRequestToResponse)
+                            .toList());
+        });
     }
     
     @Override
@@ -103,7 +142,7 @@ public class PullRequestServiceImpl implements PullRequestService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + customUserDetail.getUser()
                         .getId()));
         
-        List<PullRequest> pullRequests = pullRequestRepository.findAllByAuthor(loginUser);
+        List<PullRequest> pullRequests = pullRequestRepository.findWithAuthorAndRepoByAuthor(loginUser);
         
         return pullRequests.stream()
                 .map(pullRequestMapper::PullRequestToResponse)
@@ -114,25 +153,48 @@ public class PullRequestServiceImpl implements PullRequestService {
     public PullRequestDetailResponse getPullRequestById(CustomUserDetail customUserDetail,
             Long repoId, Long pullRequestId) {
         
-        userAccountService.validateUserPermission(customUserDetail.getUser()
+        repoPermissionCache.validateUserPermission(customUserDetail.getUser()
                 .getId(), repoId);
         
-        PullRequest pullRequest = pullRequestRepository.findById(pullRequestId)
+        PullRequest pullRequest = pullRequestRepository.findDetailById(pullRequestId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Pull Request not found with id: " + pullRequestId));
         
         Long installationId = pullRequest.getRepo()
                 .getAccount()
                 .getInstallationId();
-        // 파일변환 목록 가져오기
-        List<PullRequestFileInfo> pullRequestFileChanges = githubApiClient.getPullRequestFileChanges(
-                installationId, pullRequest.getRepo()
-                        .getFullName(), pullRequest.getGithubPrNumber());
-        
-        // commit 목록 가져오기
-        List<PullRequestCommitInfo> pullRequestCommitInfos = githubApiClient.getPullRequestCommits(
-                installationId, pullRequest.getRepo()
-                        .getFullName(), pullRequest.getGithubPrNumber());
+        String repositoryFullName = pullRequest.getRepo()
+                .getFullName();
+        Integer githubPrNumber = pullRequest.getGithubPrNumber();
+        PullRequestDetailCache.DetailKey cacheKey = pullRequestDetailCache.keyOf(pullRequest);
+        
+        // 파일변환 목록과 commit 목록을 동시에 가져오기 (캐시 우선)
+        CompletableFuture<List<PullRequestFileInfo>> fileChangesFuture = githubCallExecutor.submit(
+                () -> pullRequestDetailCache.getFileChanges(cacheKey,
+                        () -> githubApiClient.getPullRequestFileChanges(installationId, repositoryFullName,
+                                githubPrNumber)), githubCallTimeout);
+        
+        CompletableFuture<List<PullRequestCommitInfo>> commitsFuture = githubCallExecutor.submit(
+                () -> pullRequestDetailCache.getCommits(cacheKey,
+                        () -> githubApiClient.getPullRequestCommits(installationId, repositoryFullName,
+                                githubPrNumber)), githubCallTimeout);
+        
+        // 실패하거나 시간이 초과된 목록은 빈 목록으로 내려주고, 조회 불가 여부는 응답 헤더로 알린다.
+        List<PullRequestFileInfo> pullRequestFileChanges = githubCallExecutor.joinOrNull(fileChangesFuture,
+                "PR 파일 변경 목록 " + repositoryFullName + "#" + githubPrNumber);
+        List<PullRequestCommitInfo> pullRequestCommitInfos = githubCallExecutor.joinOrNull(commitsFuture,
+                "PR 커밋 목록 " + repositoryFullName + "#" + githubPrNumber);
+        
+        boolean filesUnavailable = pullRequestFileChanges == null;
+        boolean commitsUnavailable = pullRequestCommitInfos == null;
+        markGithubUnavailable(filesUnavailable, commitsUnavailable);
+        
+        if (filesUnavailable) {
+            pullRequestFileChanges = List.of();
+        }
+        if (commitsUnavailable) {
+            pullRequestCommitInfos = List.of();
+        }
         
         // dto 변환 후 리턴
         return pullRequestMapper.PullRequestToDetailResponse(pullRequest, pullRequestFileChanges,
@@ -140,187 +202,102 @@ public class PullRequestServiceImpl implements PullRequestService {
         
     }
     
+    /**
+     * GitHub 에 PR 을 만든 뒤 짧은 로컬 트랜잭션으로 저장한다.
+     * GitHub 호출 동안 DB 커넥션을 잡지 않도록 호출 측 트랜잭션에 참여하지 않으며,
+     * 저장에 실패하면 GitHub 에 만든 PR 을 닫아 되돌린다.
+     * GitHub 호출 전에 생성 요청(outbox)을 남기므로 GitHub 생성과 저장 사이에 멈춘 요청은 PullRequestCreationService 가 마무리한다.
+     */
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public void createPullRequest(CustomUserDetail customUserDetail, Long repoId,
             PullRequestCreateRequest request) {
         
-        try {
-            JsonNode jsonNode = objectMapper.readTree(payload);
-            String action = jsonNode.path("action").asText();
-            log.debug("[웹훅 이벤트 수신] 이벤트: {}, Action: {}", event, action);
-            
-        } catch (Exception e) {
-            log.error("Error parsing payload: {}", e.getMessage());
-        }
-        
-        Repo repo = userAccountService.validateUserPermission(customUserDetail.getUser()
+        Repo repo = repoPermissionCache.validateUserPermission(customUserDetail.getUser()
                 .getId(), repoId);
         
-        // PR 생성 검증
+        // 1. PR 생성 검증 (GitHub 에 만들기 전에 리뷰어까지 확인한다)
         validatePullRequestCreation(request, repo);
         
-        // PR 생성
-        GithubPrResponse prResponse = GithubPrResponse.from(githubApiClient.createPullRequest(repo.getAccount()
-                .getInstallationId(), repo.getFullName(), request.getTitle(), request.getBody(), request.getSource(), request.getTarget())
-        );
-        
-        // PR 저장
-        PullRequest pullRequest = pullRequestMapper.githubPrResponseToEntity(prResponse, customUserDetail.getUser(), repo);
-        pullRequest.enrollSummary(request.getSummary());
-        PullRequest savePullRequest = pullRequestRepository.save(pullRequest);
-        
-        // 리뷰어 저장
-        List<UserInfo> reviewers = request.getReviewers();
-        
-        List<User> userList = reviewers.stream()
-                .map(this::getUserFromUserInfo)
-                .toList();
-        
-        List<Reviewer> reviewerList = userList.stream()
-                .map(user -> Reviewer.builder()
-                        .pullRequest(savePullRequest)
-                        .user(user)
-                        .build())
-                .toList();
+        List<User> reviewers = reviewerResolver.resolveUsers(request.getReviewers()
+                .stream()
+                .map(UserInfo::getId)
+                .toList());
         
-        reviewerRepository.saveAll(reviewerList);
-        log.debug("리뷰어 저장 완료, 리뷰어 수: {}", reviewerList.size());
-        
-        // 우선 순위 저장
-        List<PriorityInfo> priorities = request.getPriorities();
-        List<Priority> priorityList = priorities.stream()
-                .map((priorityInfo) -> Priority.builder()
-                        .pullRequest(savePullRequest)
-                        .title(priorityInfo.getTitle())
-                        .idx(priorityInfo.getIdx())
-                        .content(priorityInfo.getContent())
-                        .build())
-                .toList();
+        // 2. 생성 요청 기록 (GitHub 호출 뒤 저장 전에 멈춰도 재조정 작업이 마무리한다)
+        User author = customUserDetail.getUser();
+        Long creationId = pullRequestCreationService.begin(repo, author, request);
         
-        priorityRepository.saveAll(priorityList);
-        log.debug("우선 순위 저장 완료, 우선 순위 수: {}", priorityList.size());
+        // 3. GitHub PR 생성 (트랜잭션 밖, 실패하면 요청은 PENDING 으로 남고 재조정 작업이 GitHub 을 확인한다)
+        GHPullRequest githubPullRequest = githubApiClient.createPullRequest(repo.getAccount()
+                .getInstallationId(), repo.getFullName(), request.getTitle(), request.getBody(), request.getSource(), request.getTarget());
+        GithubPrResponse prResponse = GithubPrResponse.from(githubPullRequest);
         
-        // 작성자 설명 저장
-        List<DescriptionInfo> descriptions = request.getDescriptions();
-        List<Description> descriptionList = descriptions.stream()
-                .map(descriptionInfo ->
-                        Description.builder()
-                                .pullRequest(savePullRequest)
-                                .path(descriptionInfo.getPath())
-                                .position(descriptionInfo.getPosition())
-                                .recordKey(descriptionInfo.getRecordKey())
-                                .build()
-                )
-                .toList();
-        
-        descriptionRepository.saveAll(descriptionList);
-        log.debug("설명 저장 완료, 설명 수: {}", descriptionList.size());
+        // 4. PR 과 리뷰어/우선 순위/작성자 설명 저장, 생성 요청 완료 (짧은 로컬 트랜잭션 하나)
+        try {
+            pullRequestCreationService.complete(creationId, prResponse, author, repo, request, reviewers);
+        } catch (RuntimeException e) {
+            if (compensateCreatedPullRequest(githubPullRequest, repo)) {
+                pullRequestCreationService.markFailed(creationId, e.getMessage());
+            }
+            throw e;
+        }
         
+        log.debug("PR 저장 완료, 리뷰어 수: {}, 우선 순위 수: {}, 설명 수: {}", reviewers.size(),
+                request.getPriorities()
+                        .size(), request.getDescriptions()
+                        .size());
     }
     
-    @Override
-    public void createPullRequestFromGithub(List<GHRepository> githubRepositories) {
-        
-        try {
-            //6. Repo 별 PR 생성
-            for (GHRepository repo : githubRepositories) {
-                log.info("Repo ID: {}, Full Name: {}, Private: {}",
-                        repo.getId(), repo.getFullName(), repo.isPrivate());
-                
-                List<GithubPrResponse> githubPrResponses = repo.queryPullRequests()
-                        .state(GHIssueState.OPEN)
-                        .list()
-                        .toList()
-                        .stream()
-                        .map(GithubPrResponse::from)
-                        .toList();
-                
-                // 1. repositoryId로 Repo 엔티티를 조회한다.
-                Repo targetRepo = repoRepository.findByRepoId(repo.getId())
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                "Repository not found with id: " + repo.getId()));
-                
-                // 2. GitHub PR 응답을 PullRequest 엔티티로 변환
-                List<PullRequest> newPullRequests = new ArrayList<>();
-                List<Reviewer> newReviewers = new ArrayList<>();
-                for (GithubPrResponse githubPr : githubPrResponses) {
-                    
-                    log.info("github title: {}", githubPr.getTitle());
-                    
-                    log.info("github id: {} ", githubPr.getAuthor()
-                            .getId());
-                    log.info("github name: {}", githubPr.getAuthor()
-                            .getName());
-                    log.info("github email: {}", githubPr.getAuthor()
-                            .getEmail());
-                    log.info("github Login: {}", githubPr.getAuthor()
-                            .getLogin());
-                    log.info("github type: {}", githubPr.getAuthor()
-                            .getType());
-                    
-                    User author = userRepository.findByGithubId(githubPr.getAuthor()
-                                    .getId())
-                            .orElseGet(() -> registerUser(githubPr.getAuthor()));
-                    
-                    PullRequest pullRequest = pullRequestMapper.githubPrResponseToEntity(githubPr, author, targetRepo);
-                    
-                    List<GHUser> users = githubPr.getRequestedReviewers();
-                    for (GHUser user : users) {
-                        User reviewer = userRepository.findByGithubId(user
-                                        .getId())
-                                .orElseGet(() -> registerUser(user));
-                        
-                        log.info("reviewer 추가 로직, 이름: " + user.getName() + "pullrequest Id: "
-                                + pullRequest.getId());
-                        
-                        newReviewers.add(
-                                Reviewer.builder()
-                                        .pullRequest(pullRequest)
-                                        .user(reviewer)
-                                        .build());
-                    }
-                    newPullRequests.add(pullRequest);
-                }
-                
-                if (!newPullRequests.isEmpty()) {
-                    pullRequestRepository.saveAll(newPullRequests);
-                    reviewerRepository.saveAll(newReviewers);
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error while creating pull requests from GitHub repositories: {}",
-                    e.getMessage(), e);
-            throw new RuntimeException("Failed to create pull requests from GitHub repositories",
-                    e);
+    /**
+     * GitHub 에서 가져오지 못한 상세 항목을 응답 헤더에 남긴다. 빈 목록과 조회 실패를 클라이언트가 구분할 수 있게 한다.
+     * (예: X-Github-Unavailable: files, commits)
+     */
+    private void markGithubUnavailable(boolean filesUnavailable, boolean commitsUnavailable) {
+        if (!filesUnavailable && !commitsUnavailable) {
+            return;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)
+                || attributes.getResponse() == null) {
+            return;
         }
         
+        List<String> unavailable = new ArrayList<>(2);
+        if (filesUnavailable) {
+            unavailable.add("files");
+        }
+        if (commitsUnavailable) {
+            unavailable.add("commits");
+        }
+        attributes.getResponse()
+                .setHeader(GITHUB_UNAVAILABLE_HEADER, String.join(", ", unavailable));
     }
     
-    private User registerUser(GHUser ghUser) {
+    /**
+     * DB 저장에 실패한 PR 을 GitHub 에서 닫고 닫았는지 반환한다.
+     * 닫기도 실패하면 생성 요청이 PENDING 으로 남으므로 재조정 작업이 PR 을 다시 저장한다.
+     */
+    private boolean compensateCreatedPullRequest(GHPullRequest githubPullRequest, Repo repo) {
         try {
-            User user = User.builder()
-                    .githubId(ghUser.getId())
-                    .githubUsername(ghUser.getLogin())
-                    .githubEmail(ghUser.getEmail() != null ? ghUser.getEmail() : null)
-                    .type(ghUser.getType())
-                    .profileImageUrl(ghUser.getAvatarUrl() != null ? ghUser.getAvatarUrl()
-                            .toString() : null)
-                    .rewardPoints(0)
-                    .userGrade("BASIC")
-                    .build();
-            
-            log.info("New user registered: {}", user.getGithubUsername());
-            return userRepository.save(user);
-        } catch (Exception e) {
-            log.error("Failed to register user: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to register user from GitHub", e);
+            githubPullRequest.close();
+            log.warn("[PR 생성 보상] DB 저장 실패로 GitHub PR 을 닫았습니다. repo: {}, PR 번호: {}", repo.getFullName(),
+                    githubPullRequest.getNumber());
+            return true;
+        } catch (Exception closeException) {
+            log.error("[PR 생성 보상 실패] 생성 요청 재조정 작업이 PR 을 다시 저장합니다. repo: {}, PR 번호: {}",
+                    repo.getFullName(), githubPullRequest.getNumber(), closeException);
+            return false;
         }
     }
     
-    private User getUserFromUserInfo(UserInfo userInfo) {
-        return userRepository.findById(userInfo.getId())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "User not found with id: " + userInfo.getId()));
+    /**
+     * 레포지토리별로 별도 트랜잭션을 사용하므로 호출 측 트랜잭션에 참여하지 않는다.
+     */
+    @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void createPullRequestFromGithub(List<GHRepository> githubRepositories) {
+        
+        pullRequestImportService.importAll(githubRepositories);
     }
     
     /**
@@ -331,57 +308,4 @@ public class PullRequestServiceImpl implements PullRequestService {
             throw new IllegalArgumentException("Source or target branch is null");
         }
     }
-    
-    /**
-     * GitHub에서 가져온 PR 정보와 DB의 PR을 동기화하는 메서드
-     *
-     * @param githubPrResponses GitHub에서 가져온 PR 목록
-     * @param targetRepo        대상 저장소
-     * @param user              사용자 정보
-     */
-    private void synchronizePullRequestsWithGithub(List<GithubPrResponse> githubPrResponses,
-            Repo targetRepo, User user) {
-        
-        List<PullRequest> existingPullRequests = pullRequestRepository.findAllByRepo(targetRepo);
-        
-        Map<Integer, PullRequest> existingPrMap = existingPullRequests.stream()
-                .collect(Collectors.toMap(PullRequest::getGithubPrNumber, pr -> pr));
-        
-        // 5. GitHub에서 가져온 PR 번호 Set
-        Set<Integer> githubPrNumbers = githubPrResponses.stream()
-                .map(GithubPrResponse::getGithubPrNumber)
-                .collect(Collectors.toSet());
-        
-        // 6. 새로운 PR과 기존 PR을 비교하여 저장할 Pull Request 목록을 준비한다.
-        List<PullRequest> pullRequestsToSave = new ArrayList<>();
-        
-        for (GithubPrResponse githubPr : githubPrResponses) {
-            PullRequest existingPr = existingPrMap.get(githubPr.getGithubPrNumber());
-            
-            if (existingPr == null) {
-                // 6-1. 새로운 PR: 생성
-                PullRequest newPr = pullRequestMapper.githubPrResponseToEntity(githubPr, user, targetRepo);
-                newPr.enrollRepo(targetRepo);
-                pullRequestsToSave.add(newPr);
-            } else {
-                // 6-2. 기존 PR: 업데이트 (변경사항이 있는 경우만)
-                if (existingPr.hasChangedFrom(githubPr)) {
-                    existingPr.updateFromGithub(githubPr);
-                    pullRequestsToSave.add(existingPr);
-                }
-            }
-        }
-        
-        // 7. 깃허브에 없는 PR들을 삭제 처리한다.
-        List<PullRequest> prsToMarkAsDeleted = existingPullRequests.stream()
-                .filter(pr -> !githubPrNumbers.contains(pr.getGithubPrNumber()))
-                .toList();
-        
-        pullRequestRepository.deleteAll(prsToMarkAsDeleted);
-        
-        if (!pullRequestsToSave.isEmpty()) {
-            pullRequestRepository.saveAll(pullRequestsToSave);
-            log.info("총 {}개의 PR이 동기화되었습니다.", pullRequestsToSave.size());
-        }
-    }
 }
@@ -0,0 +1,21 @@
+package com.ssafy.ottereview.pullrequest.dto.response;
+
+import com.ssafy.ottereview.pullrequest.dto.projection.PullRequestSummary;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PullRequestSliceResponse {
+
+    private List<PullRequestSummary> pullRequests;
+
+    private String nextCursor;
+
+    private boolean hasNext;
+}
@@ -0,0 +1,38 @@
+package com.ssafy.ottereview.pullrequest.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * PR 목록 조회용 프로젝션
+ * body, diffUrl, issueUrl 등 목록에서 쓰지 않는 컬럼은 조회하지 않는다.
+ */
+public interface PullRequestSummary {
+
+    Long getId();
+
+    Integer getGithubPrNumber();
+
+    String getTitle();
+
+    String getState();
+
+    String getHead();
+
+    String getBase();
+
+    Boolean getMerged();
+
+    Integer getApproveCnt();
+
+    Integer getCommentCnt();
+
+    LocalDateTime getGithubCreatedAt();
+
+    LocalDateTime getGithubUpdatedAt();
+
+    Long getAuthorId();
+
+    String getAuthorGithubUsername();
+
+    String getAuthorProfileImageUrl();
+}
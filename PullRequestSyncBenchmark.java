@@ -0,0 +1,49 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.pullrequest.service.PullRequestSyncDiff;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * PR 전체 동기화의 메모리 내 단계 비용 측정 (GitHub/DB 호출 제외)
+ * GitHub 응답을 GithubPrResponse 로 바꾸는 단계와, DB PR 과 비교해 저장/삭제 대상을 모으는 PullRequestSyncDiff 를 측정한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PullRequestSyncBenchmark {
+
+    @Benchmark
+    public List<GithubPrResponse> toGithubPrResponses(PullRequestListState state) {
+        return state.githubPullRequests.stream()
+                .map(GithubPrResponse::from)
+                .toList();
+    }
+
+    @Benchmark
+    public PullRequestSyncDiff diffOpenPullRequests(PullRequestListState state) {
+        return PullRequestSyncDiff.ofOpenPullRequests(state.githubPrResponses, state.existingPullRequests, state.repo,
+                state.user, state.pullRequestMapper);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PullRequestSyncBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssafy.ottereview.pullrequest.service;
+
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.util.PullRequestMapper;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.user.entity.User;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
+
+/**
+ * GitHub PR 목록과 DB PR 목록을 비교해 저장/삭제할 PR 을 모으는 메모리 내 비교 결과
+ * DB/GitHub 호출 없이 동작하므로 PullRequestSyncService 와 벤치마크에서 함께 사용한다.
+ * 변경된 기존 PR 엔티티는 비교하면서 GitHub 값으로 갱신한다.
+ */
+@Getter
+public class PullRequestSyncDiff {
+
+    private final List<PullRequest> pullRequestsToSave = new ArrayList<>();
+    private final List<PullRequest> pullRequestsToDelete = new ArrayList<>();
+
+    private PullRequestSyncDiff() {
+    }
+
+    /**
+     * 열린 PR 전체 목록과 DB PR 전체를 비교한다. GitHub 목록에 없는 DB PR 은 삭제 대상이다.
+     */
+    public static PullRequestSyncDiff ofOpenPullRequests(List<GithubPrResponse> githubPrResponses,
+            Collection<PullRequest> existingPullRequests, Repo targetRepo, User user, PullRequestMapper pullRequestMapper) {
+
+        PullRequestSyncDiff diff = new PullRequestSyncDiff();
+
+        Map<Integer, PullRequest> existingPrMap = existingPullRequests.stream()
+                .collect(Collectors.toMap(PullRequest::getGithubPrNumber, Function.identity()));
+
+        Set<Integer> githubPrNumbers = githubPrResponses.stream()
+                .map(GithubPrResponse::getGithubPrNumber)
+                .collect(Collectors.toSet());
+
+        for (GithubPrResponse githubPr : githubPrResponses) {
+            diff.collectUpsert(githubPr, existingPrMap.get(githubPr.getGithubPrNumber()), targetRepo, user,
+                    pullRequestMapper);
+        }
+
+        // 깃허브에 없는 PR 들을 삭제 처리한다.
+        for (PullRequest existingPr : existingPullRequests) {
+            if (!githubPrNumbers.contains(existingPr.getGithubPrNumber())) {
+                diff.pullRequestsToDelete.add(existingPr);
+            }
+        }
+
+        return diff;
+    }
+
+    /**
+     * 갱신된 PR 목록을 비교한다. 열린 PR 은 생성/수정하고, 닫히거나 머지된 PR 은 상태(state, merged)만 갱신한다.
+     * 닫힌 PR 에도 리뷰/우선순위/설명이 달려 있으므로 삭제하지 않는다.
+     *
+     * @param existingPrMap 갱신된 PR 번호에 해당하는 DB PR (PR 번호 → 엔티티)
+     */
+    public static PullRequestSyncDiff ofChangedPullRequests(List<GHPullRequest> changedPrs,
+            Map<Integer, PullRequest> existingPrMap, Repo targetRepo, User user, PullRequestMapper pullRequestMapper) {
+
+        PullRequestSyncDiff diff = new PullRequestSyncDiff();
+
+        for (GHPullRequest changedPr : changedPrs) {
+            PullRequest existingPr = existingPrMap.get(changedPr.getNumber());
+
+            // DB 에 없는 PR 이 이미 닫혔으면 새로 만들지 않는다.
+            if (existingPr == null && changedPr.getState() != GHIssueState.OPEN) {
+                continue;
+            }
+
+            diff.collectUpsert(GithubPrResponse.from(changedPr), existingPr, targetRepo, user, pullRequestMapper);
+        }
+
+        return diff;
+    }
+
+    private void collectUpsert(GithubPrResponse githubPr, PullRequest existingPr, Repo targetRepo, User user,
+            PullRequestMapper pullRequestMapper) {
+
+        if (existingPr == null) {
+            // 새로운 PR: 생성
+            PullRequest newPr = pullRequestMapper.githubPrResponseToEntity(githubPr, user, targetRepo);
+            newPr.enrollRepo(targetRepo);
+            pullRequestsToSave.add(newPr);
+        } else if (existingPr.hasChangedFrom(githubPr)) {
+            // 기존 PR: 업데이트 (변경사항이 있는 경우만)
+            existingPr.updateFromGithub(githubPr);
+            pullRequestsToSave.add(existingPr);
+        }
+    }
+}
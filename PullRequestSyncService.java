@@ -0,0 +1,276 @@
+package com.ssafy.ottereview.pullrequest.service;
+
+import com.ssafy.ottereview.common.metrics.MetricTagLimiter;
+import com.ssafy.ottereview.githubapp.client.GithubApiClient;
+import com.ssafy.ottereview.githubapp.dto.GithubPrResponse;
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestSyncStateRedisRepository;
+import com.ssafy.ottereview.pullrequest.util.PullRequestMapper;
+import com.ssafy.ottereview.repo.entity.Repo;
+import com.ssafy.ottereview.user.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kohsuke.github.GHDirection;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHPullRequestQueryBuilder;
+import org.kohsuke.github.GHRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * GitHub PR 과 DB PR 을 동기화하는 서비스
+ * 레포지토리별 high-water mark 이후에 갱신된 PR 만 GitHub 에서 가져와 배치 단위로 반영한다.
+ * GitHub 조회는 트랜잭션 밖에서 하고, DB 반영은 배치마다 짧은 트랜잭션으로 나눈다.
+ * 기준 시각은 모든 반영이 커밋된 뒤에만 갱신하므로, 반영에 실패하면 다음 동기화가 같은 구간을 다시 가져온다.
+ * 단계별(GitHub 조회, DB 조회, 비교/변환, 반영) 소요 시간을 pullrequest.sync.phase 로 기록한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PullRequestSyncService {
+
+    private static final int SYNC_BATCH_SIZE = 100;
+
+    // GitHub 서버와의 시각 차이로 누락되는 PR 이 없도록 기준 시각을 조금 겹치게 잡는다.
+    private static final Duration CLOCK_SKEW_MARGIN = Duration.ofMinutes(1);
+
+    private static final String SYNC_METRIC = "pullrequest.sync";
+    private static final String PHASE_METRIC = "pullrequest.sync.phase";
+    private static final String ROWS_METRIC = "pullrequest.sync.rows";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final GithubApiClient githubApiClient;
+    private final PullRequestRepository pullRequestRepository;
+    private final PullRequestSyncStateRedisRepository syncStateRepository;
+    private final PullRequestMapper pullRequestMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final MetricTagLimiter metricTagLimiter;
+
+    /**
+     * 레포지토리의 PR 을 GitHub 과 동기화하는 메서드
+     * 기준 시각이 없으면 전체 동기화를, 있으면 그 이후 변경분만 반영한다.
+     * GitHub 페이지 조회 중 DB 커넥션을 잡지 않도록 호출 측도 트랜잭션 밖에서 호출한다.
+     *
+     * @param targetRepo 대상 저장소
+     * @param user       사용자 정보
+     */
+    public void synchronize(Repo targetRepo, User user) {
+        Instant syncStartedAt = Instant.now();
+        Instant highWaterMark = syncStateRepository.getHighWaterMark(targetRepo.getId());
+
+        Tags tags = syncTags(targetRepo, highWaterMark == null ? "full" : "incremental");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_ERROR;
+
+        try {
+            if (highWaterMark == null) {
+                synchronizeAll(targetRepo, user, tags);
+            } else {
+                synchronizeChangedSince(targetRepo, user, highWaterMark, tags);
+            }
+
+            saveHighWaterMarkAfterCommit(targetRepo.getId(), syncStartedAt.minus(CLOCK_SKEW_MARGIN));
+            outcome = OUTCOME_SUCCESS;
+        } finally {
+            // 실패한 동기화도 걸린 시간을 남긴다.
+            sample.stop(meterRegistry.timer(SYNC_METRIC, tags.and("outcome", outcome)));
+        }
+    }
+
+    /**
+     * 열린 PR 전체를 가져와 DB 와 비교하는 최초 동기화
+     */
+    private void synchronizeAll(Repo targetRepo, User user, Tags tags) {
+        List<GithubPrResponse> githubPrResponses = recordPhase(tags, "github_fetch",
+                () -> githubApiClient.getPullRequests(targetRepo.getAccount()
+                        .getInstallationId(), targetRepo.getFullName()));
+
+        PullRequestSyncDiff diff = transactionTemplate.execute(status -> {
+            List<PullRequest> existingPullRequests = recordPhase(tags, "db_load",
+                    () -> pullRequestRepository.findAllByRepo(targetRepo));
+
+            PullRequestSyncDiff openDiff = recordPhase(tags, "diff",
+                    () -> PullRequestSyncDiff.ofOpenPullRequests(githubPrResponses, existingPullRequests, targetRepo,
+                            user, pullRequestMapper));
+
+            apply(openDiff, tags);
+            return openDiff;
+        });
+
+        log.info("[PR 전체 동기화] repo: {}, 저장: {}, 삭제: {}", targetRepo.getFullName(),
+                diff.getPullRequestsToSave()
+                        .size(), diff.getPullRequestsToDelete()
+                        .size());
+    }
+
+    /**
+     * 기준 시각 이후에 갱신된 PR 만 가져와 반영하는 증분 동기화
+     * GitHub 을 갱신 시각 내림차순으로 조회하다가 기준 시각 이전 PR 을 만나면 중단하므로 비용이 변경된 PR 수에 비례한다.
+     */
+    private void synchronizeChangedSince(Repo targetRepo, User user, Instant highWaterMark, Tags tags) {
+        long startedAt = System.nanoTime();
+
+        List<GHPullRequest> batch = new ArrayList<>(SYNC_BATCH_SIZE);
+        int changedCount = 0;
+
+        // 페이지 조회와 배치 반영이 번갈아 일어나므로 반영에 쓴 시간을 빼서 GitHub 조회 시간을 구한다.
+        long applyNanos = 0;
+        String fetchOutcome = OUTCOME_ERROR;
+
+        try {
+            GHRepository githubRepository = githubApiClient.getRepository(targetRepo.getAccount()
+                    .getInstallationId(), targetRepo.getFullName());
+
+            for (GHPullRequest githubPr : githubRepository.queryPullRequests()
+                    .state(GHIssueState.ALL)
+                    .sort(GHPullRequestQueryBuilder.Sort.UPDATED)
+                    .direction(GHDirection.DESC)
+                    .list()
+                    .withPageSize(SYNC_BATCH_SIZE)) {
+
+                if (!githubPr.getUpdatedAt()
+                        .toInstant()
+                        .isAfter(highWaterMark)) {
+                    break;
+                }
+
+                batch.add(githubPr);
+                changedCount++;
+
+                if (batch.size() == SYNC_BATCH_SIZE) {
+                    long batchStartedAt = System.nanoTime();
+                    try {
+                        applyChangedBatch(batch, targetRepo, user, tags);
+                    } finally {
+                        applyNanos += System.nanoTime() - batchStartedAt;
+                    }
+                    batch.clear();
+                }
+            }
+            fetchOutcome = OUTCOME_SUCCESS;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to fetch updated pull requests from GitHub", e);
+        } finally {
+            meterRegistry.timer(PHASE_METRIC, tags.and("phase", "github_fetch", "outcome", fetchOutcome))
+                    .record(System.nanoTime() - startedAt - applyNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (!batch.isEmpty()) {
+            applyChangedBatch(batch, targetRepo, user, tags);
+        }
+
+        log.info("[PR 증분 동기화] repo: {}, 기준 시각: {}, 변경된 PR 수: {}", targetRepo.getFullName(),
+                highWaterMark, changedCount);
+    }
+
+    /**
+     * 변경된 PR 한 배치를 별도 트랜잭션으로 반영한다. 다음 페이지 조회는 커밋 후에 이어진다.
+     */
+    private void applyChangedBatch(List<GHPullRequest> changedPrs, Repo targetRepo, User user, Tags tags) {
+        transactionTemplate.executeWithoutResult(status -> applyChanged(changedPrs, targetRepo, user, tags));
+    }
+
+    private void applyChanged(List<GHPullRequest> changedPrs, Repo targetRepo, User user, Tags tags) {
+        // 1. 변경된 PR 번호에 해당하는 DB PR 만 조회한다.
+        Set<Integer> githubPrNumbers = changedPrs.stream()
+                .map(GHPullRequest::getNumber)
+                .collect(Collectors.toSet());
+
+        Map<Integer, PullRequest> existingPrMap = recordPhase(tags, "db_load",
+                () -> pullRequestRepository.findAllByRepoAndGithubPrNumberIn(targetRepo, githubPrNumbers)
+                        .stream()
+                        .collect(Collectors.toMap(PullRequest::getGithubPrNumber, Function.identity())));
+
+        // 2. 열린 PR 은 생성/수정하고, 닫힌 PR 은 목록에서 제외한다.
+        PullRequestSyncDiff diff = recordPhase(tags, "diff",
+                () -> PullRequestSyncDiff.ofChangedPullRequests(changedPrs, existingPrMap, targetRepo, user,
+                        pullRequestMapper));
+
+        apply(diff, tags);
+    }
+
+    private void apply(PullRequestSyncDiff diff, Tags tags) {
+        List<PullRequest> pullRequestsToSave = diff.getPullRequestsToSave();
+        List<PullRequest> pullRequestsToDelete = diff.getPullRequestsToDelete();
+
+        recordPhase(tags, "apply", () -> {
+            if (!pullRequestsToDelete.isEmpty()) {
+                pullRequestRepository.deleteAll(pullRequestsToDelete);
+            }
+
+            if (!pullRequestsToSave.isEmpty()) {
+                pullRequestRepository.saveAll(pullRequestsToSave);
+            }
+
+            pullRequestRepository.flush();
+            return null;
+        });
+
+        meterRegistry.counter(ROWS_METRIC, tags.and("action", "saved"))
+                .increment(pullRequestsToSave.size());
+        meterRegistry.counter(ROWS_METRIC, tags.and("action", "deleted"))
+                .increment(pullRequestsToDelete.size());
+    }
+
+    /**
+     * 기준 시각을 저장한다. 호출 측 트랜잭션이 있으면 커밋된 뒤에 저장해, 롤백된 변경분을 다음 동기화가 건너뛰지 않게 한다.
+     */
+    private void saveHighWaterMarkAfterCommit(Long repoId, Instant highWaterMark) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            syncStateRepository.saveHighWaterMark(repoId, highWaterMark);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                syncStateRepository.saveHighWaterMark(repoId, highWaterMark);
+            }
+        });
+    }
+
+    /**
+     * 단계 실행 시간을 결과(outcome) 태그와 함께 기록한다. 예외로 끝난 단계도 기록한다.
+     */
+    private <T> T recordPhase(Tags tags, String phase, Supplier<T> body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = OUTCOME_ERROR;
+        try {
+            T result = body.get();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(PHASE_METRIC, tags.and("phase", phase, "outcome", outcome)));
+        }
+    }
+
+    /**
+     * 동기화 메트릭 공통 태그. 레포지토리/설치 태그는 카디널리티를 제한한다.
+     */
+    private Tags syncTags(Repo targetRepo, String mode) {
+        return Tags.of("mode", mode)
+                .and("repo", metricTagLimiter.limit("repo", targetRepo.getFullName()))
+                .and("installation", metricTagLimiter.limit("installation", targetRepo.getAccount()
+                        .getInstallationId()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.ssafy.ottereview.pullrequest.repository;
+
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 레포지토리별 GitHub PR 동기화 기준 시각(high-water mark)과 최초 가져오기 완료 시각을 저장하는 Redis 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class PullRequestSyncStateRedisRepository {
+
+    private static final String KEY_PREFIX = "pr-sync:";
+    private static final String HIGH_WATER_MARK = "highWaterMark";
+    private static final String IMPORTED_AT = "importedAt";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Instant getHighWaterMark(Long repoId) {
+        Object value = redisTemplate.opsForHash()
+                .get(generateKey(repoId), HIGH_WATER_MARK);
+
+        if (value == null) {
+            return null;
+        }
+
+        return Instant.ofEpochMilli(Long.parseLong(value.toString()));
+    }
+
+    public void saveHighWaterMark(Long repoId, Instant highWaterMark) {
+        redisTemplate.opsForHash()
+                .put(generateKey(repoId), HIGH_WATER_MARK, String.valueOf(highWaterMark.toEpochMilli()));
+    }
+
+    /**
+     * 설치 시 가져오기를 끝낸 레포지토리인지 확인한다. 동기화 기준 시각과 별개로 기록한다.
+     */
+    public boolean isImported(Long repoId) {
+        return redisTemplate.opsForHash()
+                .hasKey(generateKey(repoId), IMPORTED_AT);
+    }
+
+    public void markImported(Long repoId, Instant importedAt) {
+        redisTemplate.opsForHash()
+                .put(generateKey(repoId), IMPORTED_AT, String.valueOf(importedAt.toEpochMilli()));
+    }
+
+    public void clear(Long repoId) {
+        redisTemplate.delete(generateKey(repoId));
+    }
+
+    private String generateKey(Long repoId) {
+        return KEY_PREFIX + repoId;
+    }
+}
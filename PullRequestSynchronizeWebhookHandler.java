@@ -0,0 +1,47 @@
+package com.ssafy.ottereview.pullrequest.service;
+
+import com.ssafy.ottereview.pullrequest.event.PullRequestSynchronizedEvent;
+import com.ssafy.ottereview.webhook.dto.WebhookEnvelope;
+import com.ssafy.ottereview.webhook.service.WebhookEventHandler;
+import com.ssafy.ottereview.webhook.util.WebhookPayloadDecoder;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * PR 의 파일/커밋 목록이 바뀌는 pull_request 웹훅을 받아 PullRequestSynchronizedEvent 를 발행하는 처리기
+ * 새 커밋 push(synchronize)와 base 브랜치 변경(edited)이 대상이며, 그 외 action 은 무시한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PullRequestSynchronizeWebhookHandler implements WebhookEventHandler {
+
+    private static final Set<String> CONTENT_CHANGING_ACTIONS = Set.of("synchronize", "edited");
+
+    private final WebhookPayloadDecoder webhookPayloadDecoder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String event() {
+        return "pull_request";
+    }
+
+    @Override
+    public void handle(String payload) {
+        WebhookEnvelope envelope = webhookPayloadDecoder.decodeEnvelope(payload);
+
+        if (envelope.action() == null || !CONTENT_CHANGING_ACTIONS.contains(envelope.action())
+                || envelope.repositoryFullName() == null
+                || envelope.pullRequestNumber() == null) {
+            return;
+        }
+
+        log.debug("PR 내용 변경 웹훅, repo: {}, PR 번호: {}, action: {}", envelope.repositoryFullName(),
+                envelope.pullRequestNumber(), envelope.action());
+        eventPublisher.publishEvent(
+                new PullRequestSynchronizedEvent(envelope.repositoryFullName(), envelope.pullRequestNumber()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.ssafy.ottereview.pullrequest.event;
+
+/**
+ * pull_request 웹훅의 synchronize(새 커밋 push), edited(base 변경)로 PR 의 파일/커밋 목록이 바뀌었음을 알리는 이벤트
+ */
+public record PullRequestSynchronizedEvent(String repositoryFullName, Integer githubPrNumber) {
+
+}
@@ -0,0 +1,87 @@
+package com.ssafy.ottereview.pullrequest.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PR 목록 키셋 페이지네이션이 인덱스 범위만 읽도록 pull_request.github_updated_at 을 정리하는 시작 작업
+ * 1. github_updated_at 이 비어 있는 행을 GitHub 생성 시각(없으면 DB 생성 시각)으로 채운다.
+ * 2. 컬럼을 NOT NULL 로 바꾼다.
+ * 3. (repo_id, github_updated_at, id) 인덱스를 만든다.
+ * 모든 단계는 이미 반영돼 있으면 건너뛰므로 여러 노드가 동시에 시작해도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PullRequestUpdatedAtMigration implements ApplicationRunner {
+
+    private static final int BACKFILL_CHUNK_SIZE = 1000;
+    private static final String INDEX_NAME = "idx_pull_request_repo_updated";
+
+    private static final String BACKFILL_SQL = """
+            update pull_request
+            set github_updated_at = coalesce(github_created_at, created_at)
+            where github_updated_at is null
+            limit ?
+            """;
+
+    private static final String NULLABLE_SQL = """
+            select is_nullable
+            from information_schema.columns
+            where table_schema = database() and table_name = 'pull_request' and column_name = 'github_updated_at'
+            """;
+
+    private static final String INDEX_EXISTS_SQL = """
+            select count(*)
+            from information_schema.statistics
+            where table_schema = database() and table_name = 'pull_request' and index_name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            backfill();
+            makeNotNull();
+            createIndex();
+        } catch (DataAccessException e) {
+            // 다른 노드가 같은 변경을 먼저 반영한 경우 등. 다음 시작 때 다시 확인한다.
+            log.warn("pull_request.github_updated_at 정리 실패", e);
+        }
+    }
+
+    private void backfill() {
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(BACKFILL_SQL, BACKFILL_CHUNK_SIZE);
+            total += updated;
+        } while (updated == BACKFILL_CHUNK_SIZE);
+
+        if (total > 0) {
+            log.info("pull_request.github_updated_at 채움, rows: {}", total);
+        }
+    }
+
+    private void makeNotNull() {
+        String nullable = jdbcTemplate.queryForObject(NULLABLE_SQL, String.class);
+        if ("YES".equals(nullable)) {
+            jdbcTemplate.execute("alter table pull_request modify github_updated_at datetime(6) not null");
+            log.info("pull_request.github_updated_at NOT NULL 로 변경");
+        }
+    }
+
+    private void createIndex() {
+        Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, INDEX_NAME);
+        if (count == null || count == 0) {
+            jdbcTemplate.execute("create index " + INDEX_NAME + " on pull_request (repo_id, github_updated_at, id)");
+            log.info("pull_request 인덱스 생성, name: {}", INDEX_NAME);
+        }
+    }
+}
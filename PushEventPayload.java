@@ -0,0 +1,39 @@
+package com.ssafy.ottereview.preparation.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * push 웹훅에서 미리 준비에 필요한 필드만 담은 값
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PushEventPayload(
+        String ref,
+        boolean deleted,
+        Repository repository,
+        Sender sender
+) {
+
+    private static final String BRANCH_REF_PREFIX = "refs/heads/";
+
+    /**
+     * 브랜치 push 면 브랜치 이름, 태그 등 그 외 ref 면 null
+     */
+    public String branch() {
+        return ref != null && ref.startsWith(BRANCH_REF_PREFIX) ? ref.substring(BRANCH_REF_PREFIX.length()) : null;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Repository(
+            long id,
+            @JsonProperty("full_name") String fullName,
+            @JsonProperty("default_branch") String defaultBranch
+    ) {
+
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Sender(long id, String login) {
+
+    }
+}
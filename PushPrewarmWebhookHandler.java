@@ -0,0 +1,60 @@
+package com.ssafy.ottereview.preparation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ottereview.preparation.dto.PushEventPayload;
+import com.ssafy.ottereview.webhook.service.WebhookEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 브랜치가 아닌 브랜치의 push 웹훅을 받아 (브랜치 → 기본 브랜치) PR 준비 정보를 미리 만들도록 예약하는 처리기
+ * 필요한 필드만 선언한 레코드로 바로 바인딩하므로 payload 트리를 만들지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushPrewarmWebhookHandler implements WebhookEventHandler {
+
+    private final ObjectMapper objectMapper;
+    private final PreparationPrewarmScheduler preparationPrewarmScheduler;
+
+    @Override
+    public String event() {
+        return "push";
+    }
+
+    @Override
+    public void handle(String payload) {
+        PushEventPayload push;
+        try {
+            push = objectMapper.readValue(payload, PushEventPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to read push payload: " + e.getMessage(), e);
+        }
+
+        String branch = push.branch();
+        if (branch == null || push.repository() == null || push.sender() == null) {
+            return;
+        }
+
+        String defaultBranch = push.repository()
+                .defaultBranch();
+        if (branch.equals(defaultBranch)) {
+            return;
+        }
+
+        // 1. 브랜치가 삭제되면 미리 만든 준비 정보도 제거한다.
+        if (push.deleted()) {
+            preparationPrewarmScheduler.evict(push.repository()
+                    .id(), branch, defaultBranch);
+            return;
+        }
+
+        // 2. 미리 준비 예약
+        preparationPrewarmScheduler.schedule(push.repository()
+                .id(), branch, defaultBranch, push.sender()
+                .id());
+    }
+}
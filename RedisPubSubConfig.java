@@ -0,0 +1,36 @@
+package com.ssafy.ottereview.common.config;
+
+import com.ssafy.ottereview.account.service.AccountMemberDirectory;
+import com.ssafy.ottereview.account.service.RepoPermissionCache;
+import com.ssafy.ottereview.preparation.repository.PreparationNearCache;
+import com.ssafy.ottereview.pullrequest.cache.PullRequestDetailCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    /**
+     * 다른 노드에서 보낸 로컬 캐시 무효화 메시지를 받는 구독 컨테이너
+     * 모든 채널을 하나의 컨테이너(구독 연결 하나)로 받는다.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+            PreparationNearCache preparationNearCache,
+            PullRequestDetailCache pullRequestDetailCache,
+            RepoPermissionCache repoPermissionCache,
+            AccountMemberDirectory accountMemberDirectory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(preparationNearCache, new ChannelTopic(PreparationNearCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(pullRequestDetailCache,
+                new ChannelTopic(PullRequestDetailCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(repoPermissionCache, new ChannelTopic(RepoPermissionCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(accountMemberDirectory,
+                new ChannelTopic(AccountMemberDirectory.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,127 @@
+package com.ssafy.ottereview.account.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.ottereview.account.event.RepoPermissionChangedEvent;
+import com.ssafy.ottereview.repo.entity.Repo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * UserAccountService.validateUserPermission 결과를 (사용자, 레포지토리) 단위로 잠깐 보관하는 캐시
+ * 권한이 없는 경우(예외)는 캐시하지 않으며, 설치/멤버십 웹훅에서 레포지토리, 계정 또는 전체 단위로 무효화한다.
+ * 캐시된 Repo 는 준영속 상태이므로 account 까지만 초기화해 두고 그 외 지연 연관관계는 읽지 않는다.
+ * 웹훅은 한 노드에서만 처리되므로 무효화는 Redis pub/sub 으로 모든 노드에 전파한다.
+ */
+@Slf4j
+@Component
+public class RepoPermissionCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "repo-permission:invalidate";
+
+    private static final String ALL_REPOSITORIES = "*";
+    private static final String ACCOUNT_PREFIX = "account:";
+
+    private final UserAccountService userAccountService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<PermissionKey, Repo> cache;
+
+    public RepoPermissionCache(UserAccountService userAccountService,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${account.permission-cache.maximum-size:10000}") long maximumSize,
+            @Value("${account.permission-cache.ttl:PT30S}") Duration ttl) {
+        this.userAccountService = userAccountService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "repoPermission");
+    }
+
+    /**
+     * 사용자가 레포지토리에 접근할 수 있는지 확인하고 레포지토리를 반환한다.
+     */
+    public Repo validateUserPermission(Long userId, Long repoId) {
+        return cache.get(new PermissionKey(userId, repoId), key -> {
+            Repo repo = userAccountService.validateUserPermission(userId, repoId);
+            Hibernate.initialize(repo.getAccount());
+            return repo;
+        });
+    }
+
+    /**
+     * 이 노드의 캐시를 바로 제거하고 다른 노드에도 무효화를 알린다. (트랜잭션 안에서 발행되면 커밋 후)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(RepoPermissionChangedEvent event) {
+        String message;
+        if (event.repoId() != null) {
+            evictRepo(event.repoId());
+            message = String.valueOf(event.repoId());
+        } else if (event.accountId() != null) {
+            evictAccount(event.accountId());
+            message = ACCOUNT_PREFIX + event.accountId();
+        } else {
+            evictAll();
+            message = ALL_REPOSITORIES;
+        }
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (ALL_REPOSITORIES.equals(body)) {
+                evictAll();
+            } else if (body.startsWith(ACCOUNT_PREFIX)) {
+                evictAccount(Long.valueOf(body.substring(ACCOUNT_PREFIX.length())));
+            } else {
+                evictRepo(Long.valueOf(body));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 레포지토리 권한 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evictAll() {
+        cache.invalidateAll();
+        log.debug("레포지토리 권한 캐시 전체 무효화");
+    }
+
+    private void evictRepo(Long repoId) {
+        cache.asMap()
+                .keySet()
+                .removeIf(key -> key.repoId()
+                        .equals(repoId));
+        log.debug("레포지토리 권한 캐시 무효화, repoId: {}", repoId);
+    }
+
+    private void evictAccount(Long accountId) {
+        // 캐시된 Repo 는 account 가 초기화되어 있으므로 준영속 상태에서도 읽을 수 있다.
+        cache.asMap()
+                .values()
+                .removeIf(repo -> accountId.equals(repo.getAccount()
+                        .getId()));
+        log.debug("레포지토리 권한 캐시 무효화, accountId: {}", accountId);
+    }
+
+    private record PermissionKey(Long userId, Long repoId) {
+
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.ottereview.account.event;
+
+/**
+ * 사용자의 레포지토리 접근 권한이 바뀌었음을 알리는 이벤트
+ * repoId 가 null 이면 accountId 계정의 모든 레포지토리 권한 캐시를, 둘 다 null 이면 전체 권한 캐시와 멤버 인덱스를 비운다.
+ *
+ * @param accountId 레포지토리가 속한 계정 (멤버 인덱스 무효화용)
+ */
+public record RepoPermissionChangedEvent(Long repoId, Long accountId) {
+
+    public static RepoPermissionChangedEvent ofAccount(Long accountId) {
+        return new RepoPermissionChangedEvent(null, accountId);
+    }
+
+    public static RepoPermissionChangedEvent all() {
+        return new RepoPermissionChangedEvent(null, null);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.ottereview.account.service;
+
+import com.ssafy.ottereview.account.entity.Account;
+import com.ssafy.ottereview.account.event.RepoPermissionChangedEvent;
+import com.ssafy.ottereview.account.repository.AccountRepository;
+import com.ssafy.ottereview.repo.repository.RepoRepository;
+import com.ssafy.ottereview.webhook.dto.WebhookEnvelope;
+import com.ssafy.ottereview.webhook.service.WebhookEventHandler;
+import com.ssafy.ottereview.webhook.util.WebhookPayloadDecoder;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 설치/멤버십이 바뀌는 웹훅을 받아 레포지토리 권한 캐시를 무효화하는 처리기
+ * payload 에 repository 가 있는 collaborator 변경(member)은 해당 레포지토리와 그 계정만,
+ * 그 외 설치/조직 변경은 payload 의 설치에 연결된 계정만 비우고, 설치를 모를 때만 전체를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RepoPermissionWebhookHandler implements WebhookEventHandler {
+
+    private final WebhookPayloadDecoder webhookPayloadDecoder;
+    private final RepoRepository repoRepository;
+    private final AccountRepository accountRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String event() {
+        return "installation";
+    }
+
+    @Override
+    public Set<String> events() {
+        return Set.of("installation", "installation_repositories", "member", "membership", "organization");
+    }
+
+    @Override
+    public void handle(String payload) {
+        WebhookEnvelope envelope = webhookPayloadDecoder.decodeEnvelope(payload);
+
+        if (envelope.repositoryId() != null) {
+            repoRepository.findByRepoId(envelope.repositoryId())
+                    .ifPresent(repo -> eventPublisher.publishEvent(new RepoPermissionChangedEvent(repo.getId(),
+                            repo.getAccount()
+                                    .getId())));
+            return;
+        }
+
+        List<Account> accounts = envelope.installationId() != null
+                ? accountRepository.findAllByInstallationId(envelope.installationId())
+                : List.of();
+        if (accounts.isEmpty()) {
+            eventPublisher.publishEvent(RepoPermissionChangedEvent.all());
+            return;
+        }
+
+        accounts.forEach(account -> eventPublisher.publishEvent(RepoPermissionChangedEvent.ofAccount(account.getId())));
+    }
+}
@@ -0,0 +1,259 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.ssafy.ottereview.webhook.dto.ReviewCommentUpsert;
+import com.ssafy.ottereview.webhook.dto.ReviewUpsert;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리뷰/리뷰 코멘트 웹훅을 짧은 구간 동안 모아 한 번에 upsert 하는 writer
+ * 이벤트마다 github_id 로 조회한 뒤 insert/update 하던 왕복을 INSERT ... ON DUPLICATE KEY UPDATE JDBC 배치로 바꾼다.
+ * 같은 github_id 가 한 구간에 여러 번 들어오면 마지막 값만 반영한다.
+ * 웹훅 처리기는 submit 이 돌려준 future 를 기다리지 않고 반환하며(WebhookEventHandler.handleAsync),
+ * 워커가 future 완료 시점에 delivery 를 완료/실패로 기록한다. 파티션 스레드를 막지 않으므로 여러 파티션의 이벤트가 한 배치에 모인다.
+ * GitHub 은 코멘트 웹훅을 리뷰 웹훅보다 먼저 보내기도 하므로, 리뷰가 아직 없는 코멘트도 review_id 를 비워 둔 채 저장하고
+ * GitHub 리뷰 id(github_review_id)를 함께 남긴다. 이후 배치에서 그 리뷰가 저장되면 review_id 를 채운다.
+ * (실패로 돌리면 같은 PR 파티션에서 리뷰가 코멘트 뒤에 막혀, 코멘트는 재시도를 모두 소진하고 리뷰는 백오프만큼 늦어진다)
+ */
+@Slf4j
+@Component
+public class ReviewBatchWriter {
+
+    private static final String UPSERT_REVIEW_SQL = """
+            insert into review (body, commit_sha, created_at, github_created_at, github_id, modified_at, pull_request_id, state, user_id)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?) as new
+            on duplicate key update
+                body = new.body,
+                commit_sha = new.commit_sha,
+                state = new.state,
+                modified_at = new.modified_at
+            """;
+
+    private static final String UPSERT_REVIEW_COMMENT_SQL = """
+            insert into review_comment (body, path, line, side, created_at, github_created_at, github_id, modified_at, github_review_id, review_id, user_id)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, (select r.id from review r where r.github_id = ?), ?) as new
+            on duplicate key update
+                body = new.body,
+                line = new.line,
+                side = new.side,
+                review_id = coalesce(review_comment.review_id, new.review_id),
+                modified_at = new.modified_at
+            """;
+
+    // 먼저 도착해 review_id 없이 저장된 코멘트를 방금 저장한 리뷰에 연결한다.
+    private static final String LINK_WAITING_COMMENTS_SQL = """
+            update review_comment c
+            join review r on r.github_id = c.github_review_id
+            set c.review_id = r.id
+            where c.review_id is null
+              and c.github_review_id in (%s)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService flusher;
+    private final Duration window;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private Batch current = new Batch();
+
+    public ReviewBatchWriter(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${webhook.review-batch.window:PT0.05S}") Duration window,
+            @Value("${webhook.review-batch.max-size:500}") int maxBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "review-batch-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 리뷰를 다음 배치에 추가한다.
+     *
+     * @return 리뷰가 DB 에 반영되면 완료되는 future (실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> submit(ReviewUpsert review) {
+        synchronized (lock) {
+            current.reviews.put(review.githubId(), review);
+            CompletableFuture<Void> done = current.reviewFutures.computeIfAbsent(review.githubId(),
+                    githubId -> new CompletableFuture<>());
+            afterAdd();
+            return done;
+        }
+    }
+
+    /**
+     * 리뷰 코멘트를 다음 배치에 추가한다. 같은 배치의 리뷰가 먼저 저장된 뒤 코멘트가 저장된다.
+     * 리뷰가 아직 없으면 review_id 없이 저장되고, 리뷰가 저장되는 배치에서 연결된다.
+     *
+     * @return 코멘트가 DB 에 반영되면 완료되는 future (실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> submit(ReviewCommentUpsert comment) {
+        synchronized (lock) {
+            current.comments.put(comment.githubId(), comment);
+            CompletableFuture<Void> done = current.commentFutures.computeIfAbsent(comment.githubId(),
+                    githubId -> new CompletableFuture<>());
+            afterAdd();
+            return done;
+        }
+    }
+
+    private void afterAdd() {
+        Batch batch = current;
+
+        // 1. 배치가 가득 차면 바로 반영한다.
+        if (batch.size() >= maxBatchSize) {
+            current = new Batch();
+            flusher.execute(() -> flush(batch));
+            return;
+        }
+
+        // 2. 배치의 첫 이벤트이면 구간이 끝날 때 반영하도록 예약한다.
+        if (batch.size() == 1) {
+            flusher.schedule(() -> flushIfCurrent(batch), window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushIfCurrent(Batch batch) {
+        synchronized (lock) {
+            // 가득 차서 이미 반영된 배치면 무시한다.
+            if (current != batch) {
+                return;
+            }
+            current = new Batch();
+        }
+        flush(batch);
+    }
+
+    private void flush(Batch batch) {
+        List<ReviewUpsert> reviews = new ArrayList<>(batch.reviews.values());
+        List<ReviewCommentUpsert> comments = new ArrayList<>(batch.comments.values());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                if (!reviews.isEmpty()) {
+                    upsertReviews(reviews, now);
+                    linkWaitingComments(reviews);
+                }
+                if (!comments.isEmpty()) {
+                    upsertComments(comments, now);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.error("리뷰 배치 반영 실패, 리뷰 수: {}, 코멘트 수: {}", reviews.size(), comments.size(), e);
+            batch.reviewFutures.values()
+                    .forEach(future -> future.completeExceptionally(e));
+            batch.commentFutures.values()
+                    .forEach(future -> future.completeExceptionally(e));
+            return;
+        }
+
+        log.debug("리뷰 배치 반영 완료, 리뷰 수: {}, 코멘트 수: {}", reviews.size(), comments.size());
+
+        batch.reviewFutures.values()
+                .forEach(future -> future.complete(null));
+        batch.commentFutures.values()
+                .forEach(future -> future.complete(null));
+    }
+
+    private void linkWaitingComments(List<ReviewUpsert> reviews) {
+        String placeholders = String.join(", ", Collections.nCopies(reviews.size(), "?"));
+        int linked = jdbcTemplate.update(LINK_WAITING_COMMENTS_SQL.formatted(placeholders), reviews.stream()
+                .map(ReviewUpsert::githubId)
+                .toArray());
+        if (linked > 0) {
+            log.debug("먼저 저장된 리뷰 코멘트 {}건을 리뷰에 연결", linked);
+        }
+    }
+
+    private void upsertReviews(List<ReviewUpsert> reviews, Timestamp now) {
+        jdbcTemplate.batchUpdate(UPSERT_REVIEW_SQL, reviews, reviews.size(), (ps, review) -> {
+            ps.setString(1, review.body());
+            ps.setString(2, review.commitSha());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, toTimestamp(review.githubCreatedAt()));
+            ps.setLong(5, review.githubId());
+            ps.setTimestamp(6, now);
+            ps.setLong(7, review.pullRequestId());
+            ps.setString(8, review.state());
+            ps.setLong(9, review.userId());
+        });
+    }
+
+    private void upsertComments(List<ReviewCommentUpsert> comments, Timestamp now) {
+        jdbcTemplate.batchUpdate(UPSERT_REVIEW_COMMENT_SQL, comments, comments.size(), (ps, comment) -> {
+            ps.setString(1, comment.body());
+            ps.setString(2, comment.path());
+            if (comment.line() != null) {
+                ps.setInt(3, comment.line());
+            } else {
+                ps.setNull(3, Types.INTEGER);
+            }
+            ps.setString(4, comment.side());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, toTimestamp(comment.githubCreatedAt()));
+            ps.setLong(7, comment.githubId());
+            ps.setTimestamp(8, now);
+            ps.setLong(9, comment.githubReviewId());
+            ps.setLong(10, comment.githubReviewId());
+            ps.setLong(11, comment.userId());
+        });
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    /**
+     * 종료 시 남은 배치를 반영한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        Batch remaining;
+        synchronized (lock) {
+            remaining = current;
+            current = new Batch();
+        }
+        if (remaining.size() > 0) {
+            flush(remaining);
+        }
+        flusher.shutdown();
+    }
+
+    private static final class Batch {
+
+        private final Map<Long, ReviewUpsert> reviews = new LinkedHashMap<>();
+        private final Map<Long, ReviewCommentUpsert> comments = new LinkedHashMap<>();
+        private final Map<Long, CompletableFuture<Void>> reviewFutures = new LinkedHashMap<>();
+        private final Map<Long, CompletableFuture<Void>> commentFutures = new LinkedHashMap<>();
+
+        private int size() {
+            return reviews.size() + comments.size();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ssafy.ottereview.webhook.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰보다 먼저 도착한 리뷰 코멘트를 저장할 수 있도록 review_comment 를 정리하는 시작 작업 (ReviewBatchWriter)
+ * 1. GitHub 리뷰 id 를 담는 github_review_id 컬럼과 인덱스를 추가한다.
+ * 2. review_id 가 NOT NULL 이면 NULL 을 허용한다. (리뷰가 저장되면 채운다)
+ * 모든 단계는 이미 반영돼 있으면 건너뛰므로 여러 노드가 동시에 시작해도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCommentReviewLinkMigration implements ApplicationRunner {
+
+    private static final String INDEX_NAME = "idx_review_comment_github_review_id";
+
+    private static final String COLUMN_SQL = """
+            select is_nullable
+            from information_schema.columns
+            where table_schema = database() and table_name = 'review_comment' and column_name = ?
+            """;
+
+    private static final String INDEX_EXISTS_SQL = """
+            select count(*)
+            from information_schema.statistics
+            where table_schema = database() and table_name = 'review_comment' and index_name = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            addGithubReviewId();
+            allowNullReviewId();
+        } catch (DataAccessException e) {
+            // 다른 노드가 같은 변경을 먼저 반영한 경우 등. 다음 시작 때 다시 확인한다.
+            log.warn("review_comment 리뷰 연결 컬럼 정리 실패", e);
+        }
+    }
+
+    private void addGithubReviewId() {
+        if (jdbcTemplate.queryForList(COLUMN_SQL, String.class, "github_review_id")
+                .isEmpty()) {
+            jdbcTemplate.execute("alter table review_comment add column github_review_id bigint null");
+            log.info("review_comment.github_review_id 추가");
+        }
+
+        Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class, INDEX_NAME);
+        if (count == null || count == 0) {
+            jdbcTemplate.execute("create index " + INDEX_NAME + " on review_comment (github_review_id)");
+            log.info("review_comment 인덱스 생성, name: {}", INDEX_NAME);
+        }
+    }
+
+    private void allowNullReviewId() {
+        if (jdbcTemplate.queryForList(COLUMN_SQL, String.class, "review_id")
+                .contains("NO")) {
+            jdbcTemplate.execute("alter table review_comment modify review_id bigint null");
+            log.info("review_comment.review_id NULL 허용으로 변경");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 코멘트 웹훅을 review_comment 테이블에 반영하기 위한 값
+ * githubReviewId 는 GitHub 리뷰 id(pull_request_review_id) 이며, 저장 시 review.id 로 변환한다.
+ */
+public record ReviewCommentUpsert(
+        Long githubId,
+        Long githubReviewId,
+        Long userId,
+        String path,
+        String body,
+        Integer line,
+        String side,
+        LocalDateTime githubCreatedAt
+) {
+
+}
@@ -0,0 +1,22 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.OffsetDateTime;
+
+/**
+ * pull_request_review_comment 웹훅의 comment 필드 중 review_comment 테이블에 반영하는 값
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReviewCommentWebhookBody(
+        long id,
+        @JsonProperty("pull_request_review_id") Long pullRequestReviewId,
+        WebhookUser user,
+        String path,
+        String body,
+        Integer line,
+        String side,
+        @JsonProperty("created_at") OffsetDateTime createdAt
+) {
+
+}
@@ -0,0 +1,60 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.ssafy.ottereview.user.service.GithubUserResolver;
+import com.ssafy.ottereview.webhook.dto.ReviewCommentUpsert;
+import com.ssafy.ottereview.webhook.dto.ReviewCommentWebhookBody;
+import com.ssafy.ottereview.webhook.dto.WebhookEvent;
+import com.ssafy.ottereview.webhook.util.WebhookPayloadDecoder;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * pull_request_review_comment 웹훅을 ReviewBatchWriter 로 넘기는 처리기
+ * 코멘트의 리뷰가 아직 저장되지 않았으면 future 가 실패로 끝나고, delivery 재시도 때 다시 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewCommentWebhookHandler implements WebhookEventHandler {
+
+    private static final Set<String> UPSERT_ACTIONS = Set.of("created", "edited");
+
+    private final WebhookPayloadDecoder webhookPayloadDecoder;
+    private final GithubUserResolver githubUserResolver;
+    private final ReviewBatchWriter reviewBatchWriter;
+
+    @Override
+    public String event() {
+        return "pull_request_review_comment";
+    }
+
+    @Override
+    public void handle(String payload) {
+        handleAsync(payload).join();
+    }
+
+    @Override
+    public CompletableFuture<Void> handleAsync(String payload) {
+        WebhookEvent<ReviewCommentWebhookBody> event = webhookPayloadDecoder.decode(payload, "comment",
+                ReviewCommentWebhookBody.class);
+        ReviewCommentWebhookBody comment = event.body();
+        String action = event.envelope()
+                .action();
+        if (action == null || !UPSERT_ACTIONS.contains(action) || comment == null || comment.user() == null
+                || comment.pullRequestReviewId() == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Long userId = githubUserResolver.resolveProfile(comment.user()
+                        .toProfile())
+                .getId();
+
+        return reviewBatchWriter.submit(new ReviewCommentUpsert(comment.id(), comment.pullRequestReviewId(), userId,
+                comment.path(), comment.body(), comment.line(), comment.side(), comment.createdAt() != null
+                ? comment.createdAt()
+                .atZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime() : null));
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 웹훅을 review 테이블에 반영하기 위한 값
+ * pullRequestId, userId 는 내부 DB id 이고 githubId 는 GitHub 리뷰 id 이다.
+ */
+public record ReviewUpsert(
+        Long githubId,
+        Long pullRequestId,
+        Long userId,
+        String state,
+        String body,
+        String commitSha,
+        LocalDateTime githubCreatedAt
+) {
+
+}
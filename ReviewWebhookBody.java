@@ -0,0 +1,20 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.OffsetDateTime;
+
+/**
+ * pull_request_review 웹훅의 review 필드 중 review 테이블에 반영하는 값
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReviewWebhookBody(
+        long id,
+        WebhookUser user,
+        String state,
+        String body,
+        @JsonProperty("commit_id") String commitId,
+        @JsonProperty("submitted_at") OffsetDateTime submittedAt
+) {
+
+}
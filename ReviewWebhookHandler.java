@@ -0,0 +1,69 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.ssafy.ottereview.pullrequest.entity.PullRequest;
+import com.ssafy.ottereview.pullrequest.repository.PullRequestRepository;
+import com.ssafy.ottereview.user.service.GithubUserResolver;
+import com.ssafy.ottereview.webhook.dto.ReviewUpsert;
+import com.ssafy.ottereview.webhook.dto.ReviewWebhookBody;
+import com.ssafy.ottereview.webhook.dto.WebhookEvent;
+import com.ssafy.ottereview.webhook.util.WebhookPayloadDecoder;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * pull_request_review 웹훅을 ReviewBatchWriter 로 넘기는 처리기
+ * 배치 반영을 기다리지 않고 future 를 돌려주며, 워커가 반영 완료 시점에 delivery 를 완료로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewWebhookHandler implements WebhookEventHandler {
+
+    private static final Set<String> UPSERT_ACTIONS = Set.of("submitted", "edited", "dismissed");
+
+    private final WebhookPayloadDecoder webhookPayloadDecoder;
+    private final PullRequestRepository pullRequestRepository;
+    private final GithubUserResolver githubUserResolver;
+    private final ReviewBatchWriter reviewBatchWriter;
+
+    @Override
+    public String event() {
+        return "pull_request_review";
+    }
+
+    @Override
+    public void handle(String payload) {
+        handleAsync(payload).join();
+    }
+
+    @Override
+    public CompletableFuture<Void> handleAsync(String payload) {
+        WebhookEvent<ReviewWebhookBody> event = webhookPayloadDecoder.decode(payload, "review", ReviewWebhookBody.class);
+        ReviewWebhookBody review = event.body();
+        String action = event.envelope()
+                .action();
+        Long githubPrId = event.envelope()
+                .pullRequestId();
+        if (action == null || !UPSERT_ACTIONS.contains(action) || review == null || review.user() == null
+                || githubPrId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // 아직 동기화되지 않은 PR 이면 실패로 돌려 재시도 때 다시 반영한다.
+        PullRequest pullRequest = pullRequestRepository.findByGithubId(githubPrId)
+                .orElseThrow(() -> new IllegalStateException("Pull Request not stored yet, github id: " + githubPrId));
+        Long userId = githubUserResolver.resolveProfile(review.user()
+                        .toProfile())
+                .getId();
+
+        return reviewBatchWriter.submit(new ReviewUpsert(review.id(), pullRequest.getId(), userId,
+                review.state() != null ? review.state()
+                        .toUpperCase(Locale.ROOT) : null,
+                review.body(), review.commitId(), review.submittedAt() != null ? review.submittedAt()
+                .atZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime() : null));
+    }
+}
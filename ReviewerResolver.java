@@ -0,0 +1,62 @@
+package com.ssafy.ottereview.reviewer.service;
+
+import com.ssafy.ottereview.preparation.dto.UserInfo;
+import com.ssafy.ottereview.user.entity.User;
+import com.ssafy.ottereview.user.repository.UserRepository;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰어 id 목록을 한 번의 IN 조회로 사용자로 변환하는 서비스
+ * 결과는 입력 순서를 따르며, 존재하지 않는 id 가 있으면 모두 모아 예외를 던진다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewerResolver {
+
+    private final UserRepository userRepository;
+
+    public List<User> resolveUsers(Collection<Long> reviewerIds) {
+        if (reviewerIds == null || reviewerIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 중복을 제거해 한 번에 조회
+        Set<Long> distinctIds = new LinkedHashSet<>(reviewerIds);
+        Map<Long, User> usersById = userRepository.findAllById(distinctIds)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 2. 없는 id 확인
+        List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !usersById.containsKey(id))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new IllegalArgumentException("Reviewer not found with id: " + missingIds);
+        }
+
+        // 3. 입력 순서대로 반환
+        return reviewerIds.stream()
+                .map(usersById::get)
+                .toList();
+    }
+
+    public List<UserInfo> resolveUserInfos(Collection<Long> reviewerIds) {
+        return resolveUsers(reviewerIds).stream()
+                .map(user -> UserInfo.builder()
+                        .id(user.getId())
+                        .githubUsername(user.getGithubUsername())
+                        .githubEmail(user.getGithubEmail())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ssafy.ottereview.common.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 한 번 호출에서 허용하는 SQL 문 수
+ * 예산을 넘으면 경고 로그를 남기고, sql-count.fail-on-exceed=true 이면 요청을 실패시킨다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+
+    int value();
+}
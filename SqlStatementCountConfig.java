@@ -0,0 +1,56 @@
+package com.ssafy.ottereview.common.sql;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 엔드포인트별 SQL 문 수 측정 설정
+ * sql-count.enabled=true 일 때만 동작하므로 로컬/CI 프로필에서 켜서 N+1 회귀를 확인한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql-count", name = "enabled", havingValue = "true")
+public class SqlStatementCountConfig implements WebMvcConfigurer {
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    public SqlStatementCountConfig(@Value("${sql-count.fail-on-exceed:false}") boolean failOnExceed) {
+        this.sqlStatementCounter = new SqlStatementCounter(failOnExceed);
+    }
+
+    /**
+     * Hibernate 와 JdbcTemplate 이 같은 연결을 쓰도록 DataSource 빈 자체를 감싼다.
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatementCountingDataSource)) {
+                    return new SqlStatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 측정 중인 요청이 다른 스레드로 넘긴 작업(GitHub 호출, PR 가져오기 등)도 같은 요청으로 집계한다.
+     * 측정을 켠 프로필에서만 등록되므로 실행기들은 SqlStatementCounter 를 알 필요가 없다.
+     */
+    @Bean
+    public TaskDecorator sqlStatementCountTaskDecorator() {
+        return SqlStatementCounter::propagate;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementCountInterceptor(sqlStatementCounter));
+    }
+}
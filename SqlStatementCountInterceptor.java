@@ -0,0 +1,54 @@
+package com.ssafy.ottereview.common.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 엔드포인트별 SQL 문 수를 측정해 기록하는 인터셉터
+ * SqlStatementBudget 이 붙은 메서드는 예산을 넘었을 때 경고한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementCountInterceptor implements HandlerInterceptor {
+
+    private final SqlStatementCounter sqlStatementCounter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            SqlStatementBudget budget = handlerMethod.getMethodAnnotation(SqlStatementBudget.class);
+            sqlStatementCounter.start(endpointOf(handlerMethod), budget != null ? budget.value() : 0);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        int count = sqlStatementCounter.stop();
+        SqlStatementBudget budget = handlerMethod.getMethodAnnotation(SqlStatementBudget.class);
+        String endpoint = endpointOf(handlerMethod);
+
+        if (budget != null && count > budget.value()) {
+            log.warn("[SQL 예산 초과] {} {} → {}, 실행 SQL 수: {} (예산: {})", request.getMethod(),
+                    request.getRequestURI(), endpoint, count, budget.value());
+        } else {
+            log.debug("[SQL 실행 수] {} {} → {}, 실행 SQL 수: {}", request.getMethod(), request.getRequestURI(),
+                    endpoint, count);
+        }
+    }
+
+    private static String endpointOf(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType()
+                .getSimpleName() + "." + handlerMethod.getMethod()
+                .getName();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ssafy.ottereview.common.sql;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위로 실행된 SQL 문 수를 센다.
+ * JDBC 연결 단계(SqlStatementCountingDataSource)에서 세므로 Hibernate 뿐 아니라 JdbcTemplate 으로 실행한 SQL 도 포함된다.
+ * 측정 중인 요청에서 다른 스레드(가상 스레드 등)로 넘기는 작업은 propagate 로 감싸야 같은 요청으로 집계된다.
+ */
+public class SqlStatementCounter {
+
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+
+    private final boolean failOnExceed;
+
+    public SqlStatementCounter(boolean failOnExceed) {
+        this.failOnExceed = failOnExceed;
+    }
+
+    /**
+     * 현재 스레드에서 측정을 시작한다.
+     *
+     * @param budget 허용 SQL 문 수 (제한이 없으면 0 이하)
+     */
+    public void start(String endpoint, int budget) {
+        CURRENT.set(new Counter(endpoint, budget, failOnExceed));
+    }
+
+    /**
+     * 현재 스레드의 측정을 끝내고 실행된 SQL 문 수를 반환한다.
+     */
+    public int stop() {
+        Counter counter = CURRENT.get();
+        CURRENT.remove();
+        return counter != null ? counter.count.get() : 0;
+    }
+
+    /**
+     * 현재 스레드가 측정 중이면 SQL 문 하나를 센다.
+     */
+    static void record(String sql) {
+        Counter counter = CURRENT.get();
+        if (counter == null) {
+            return;
+        }
+
+        int count = counter.count.incrementAndGet();
+        if (counter.failOnExceed && counter.budget > 0 && count > counter.budget) {
+            throw new IllegalStateException(
+                    "SQL statement budget exceeded for " + counter.endpoint + ": " + count + " > " + counter.budget
+                            + ", sql: " + sql);
+        }
+    }
+
+    /**
+     * 현재 스레드의 측정을 작업을 실행하는 스레드에도 이어 준다. 측정 중이 아니면 작업을 그대로 반환한다.
+     */
+    public static Runnable propagate(Runnable task) {
+        Counter counter = CURRENT.get();
+        if (counter == null) {
+            return task;
+        }
+
+        return () -> {
+            Counter previous = CURRENT.get();
+            CURRENT.set(counter);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드의 측정을 작업을 실행하는 스레드에도 이어 준다. 측정 중이 아니면 작업을 그대로 반환한다.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Counter counter = CURRENT.get();
+        if (counter == null) {
+            return task;
+        }
+
+        return () -> {
+            Counter previous = CURRENT.get();
+            CURRENT.set(counter);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Counter previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    private static final class Counter {
+
+        private final String endpoint;
+        private final int budget;
+        private final boolean failOnExceed;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Counter(String endpoint, int budget, boolean failOnExceed) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+            this.failOnExceed = failOnExceed;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.ssafy.ottereview.common.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 연결 단계에서 세는 SQL 문 수에 JdbcTemplate 실행과 가상 스레드로 넘긴 작업이 포함되는지 확인한다.
+ */
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter sqlStatementCounter = new SqlStatementCounter(false);
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeUpdate()).thenReturn(1);
+
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        jdbcTemplate = new JdbcTemplate(new SqlStatementCountingDataSource(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sqlStatementCounter.stop();
+    }
+
+    @Test
+    void countsJdbcTemplateStatements() {
+        sqlStatementCounter.start("test", 0);
+
+        jdbcTemplate.update("update pull_request set title = ? where id = ?", "title", 1L);
+        jdbcTemplate.update("delete from reviewer where pull_request_id = ?", 1L);
+
+        assertThat(sqlStatementCounter.stop()).isEqualTo(2);
+    }
+
+    @Test
+    void countsStatementsOnPropagatedVirtualThread() throws InterruptedException {
+        sqlStatementCounter.start("test", 0);
+
+        jdbcTemplate.update("update pull_request set title = ? where id = ?", "title", 1L);
+        Thread.ofVirtual()
+                .start(SqlStatementCounter.propagate(() -> {
+                    jdbcTemplate.update("delete from reviewer where pull_request_id = ?", 1L);
+                }))
+                .join();
+
+        assertThat(sqlStatementCounter.stop()).isEqualTo(2);
+    }
+
+    @Test
+    void ignoresStatementsOutsideMeasurement() {
+        jdbcTemplate.update("delete from reviewer where pull_request_id = ?", 1L);
+
+        sqlStatementCounter.start("test", 0);
+        assertThat(sqlStatementCounter.stop()).isZero();
+    }
+
+    @Test
+    void failsWhenBudgetExceeded() {
+        SqlStatementCounter failingCounter = new SqlStatementCounter(true);
+        failingCounter.start("test", 1);
+
+        jdbcTemplate.update("delete from reviewer where pull_request_id = ?", 1L);
+
+        assertThatThrownBy(() -> jdbcTemplate.update("delete from reviewer where pull_request_id = ?", 2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("test: 2 > 1");
+        failingCounter.stop();
+    }
+}
@@ -0,0 +1,214 @@
+package com.ssafy.ottereview.pullrequest.util;
+
+import com.ssafy.ottereview.preparation.dto.DiffHunk;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * unified diff patch 를 한 번만 훑으면서 DiffHunk 목록으로 변환하는 파서
+ * DiffUtil.parseDiffHunks 와 같은 결과를 만들되, patch 전체를 줄 배열로 나누거나 정규식을 쓰지 않는다.
+ * 줄 구분은 '\n' 이며 줄 끝의 '\r' 은 제거한다. 줄 중간의 '\r' 은 내용으로 남긴다. (두 overload 공통)
+ */
+@Component
+public class StreamingDiffParser {
+
+    private static final String HUNK_HEADER_PREFIX = "@@";
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    /**
+     * 메모리에 있는 patch 를 파싱한다. 줄 단위 문자열은 각 hunk 에 담기는 줄만 만든다.
+     */
+    public List<DiffHunk> parse(CharSequence patch) {
+        HunkCollector collector = new HunkCollector();
+        if (patch == null) {
+            return collector.finish();
+        }
+
+        int length = patch.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = indexOfNewline(patch, lineStart, length);
+            collector.accept(patch, lineStart, contentEnd(patch, lineStart, lineEnd));
+            lineStart = lineEnd + 1;
+        }
+
+        return collector.finish();
+    }
+
+    /**
+     * 스트림으로 들어오는 patch 를 파싱한다. patch 전체를 String 으로 만들지 않는다.
+     * BufferedReader.readLine 은 '\r' 단독도 줄 끝으로 보므로 쓰지 않고, CharSequence 와 같은 규칙으로 줄을 나눈다.
+     */
+    public List<DiffHunk> parse(Reader reader) {
+        HunkCollector collector = new HunkCollector();
+        StringBuilder line = new StringBuilder();
+        char[] buffer = new char[READ_BUFFER_SIZE];
+
+        try {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                for (int i = 0; i < read; i++) {
+                    char c = buffer[i];
+                    if (c != '\n') {
+                        line.append(c);
+                        continue;
+                    }
+                    collector.accept(line, 0, contentEnd(line, 0, line.length()));
+                    line.setLength(0);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read patch", e);
+        }
+
+        // 마지막 줄에 '\n' 이 없는 경우
+        if (!line.isEmpty()) {
+            collector.accept(line, 0, contentEnd(line, 0, line.length()));
+        }
+
+        return collector.finish();
+    }
+
+    /**
+     * CRLF 의 '\r' 을 뺀 줄 내용의 끝 위치
+     */
+    private static int contentEnd(CharSequence text, int lineStart, int lineEnd) {
+        return lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+    }
+
+    private static int indexOfNewline(CharSequence text, int from, int length) {
+        if (text instanceof String str) {
+            int idx = str.indexOf('\n', from);
+            return idx < 0 ? length : idx;
+        }
+
+        for (int i = from; i < length; i++) {
+            if (text.charAt(i) == '\n') {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static boolean startsWith(CharSequence text, int start, int end, String prefix) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(start + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 줄을 하나씩 받아 hunk 를 조립한다.
+     */
+    private static final class HunkCollector {
+
+        private final List<DiffHunk> hunks = new ArrayList<>();
+
+        private String header;
+        private int oldStart;
+        private int oldLines;
+        private int newStart;
+        private int newLines;
+        private List<String> lines;
+
+        void accept(CharSequence text, int start, int end) {
+            if (startsWith(text, start, end, HUNK_HEADER_PREFIX)) {
+                flush();
+                parseHeader(text, start, end);
+                return;
+            }
+
+            // 첫 hunk 헤더 이전의 줄(파일 헤더 등)은 무시한다.
+            if (lines != null) {
+                lines.add(text.subSequence(start, end)
+                        .toString());
+            }
+        }
+
+        List<DiffHunk> finish() {
+            flush();
+            return hunks;
+        }
+
+        /**
+         * "@@ -oldStart,oldLines +newStart,newLines @@ context" 형식의 헤더를 읽는다. 줄 수가 생략되면 1 이다.
+         */
+        private void parseHeader(CharSequence text, int start, int end) {
+            header = text.subSequence(start, end)
+                    .toString();
+            oldStart = 0;
+            oldLines = 1;
+            newStart = 0;
+            newLines = 1;
+            lines = new ArrayList<>();
+
+            int pos = start + HUNK_HEADER_PREFIX.length();
+            while (pos < end && text.charAt(pos) != '-') {
+                pos++;
+            }
+            pos++;
+
+            long old = readRange(text, pos, end);
+            pos = (int) (old >>> 32);
+            oldStart = (int) old;
+            if (pos < end && text.charAt(pos) == ',') {
+                long count = readRange(text, pos + 1, end);
+                pos = (int) (count >>> 32);
+                oldLines = (int) count;
+            }
+
+            while (pos < end && text.charAt(pos) != '+') {
+                pos++;
+            }
+            pos++;
+
+            long next = readRange(text, pos, end);
+            pos = (int) (next >>> 32);
+            newStart = (int) next;
+            if (pos < end && text.charAt(pos) == ',') {
+                newLines = (int) readRange(text, pos + 1, end);
+            }
+        }
+
+        /**
+         * pos 부터 숫자를 읽어 (다음 위치 << 32 | 값) 으로 돌려준다. 숫자마다 객체를 만들지 않기 위함이다.
+         */
+        private static long readRange(CharSequence text, int pos, int end) {
+            int value = 0;
+            while (pos < end) {
+                char c = text.charAt(pos);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+                pos++;
+            }
+            return ((long) pos << 32) | (value & 0xFFFFFFFFL);
+        }
+
+        private void flush() {
+            if (lines == null) {
+                return;
+            }
+
+            hunks.add(DiffHunk.builder()
+                    .header(header)
+                    .oldStart(oldStart)
+                    .oldLines(oldLines)
+                    .newStart(newStart)
+                    .newLines(newLines)
+                    .lines(lines)
+                    .build());
+            lines = null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ssafy.ottereview.pullrequest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.ottereview.preparation.dto.DiffHunk;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * StreamingDiffParser 가 DiffUtil.parseDiffHunks 와 같은 hunk 를 만드는지, 두 overload 가 같은 결과를 내는지 비교한다.
+ */
+class StreamingDiffParserTest {
+
+    private final DiffUtil diffUtil = new DiffUtil();
+    private final StreamingDiffParser streamingDiffParser = new StreamingDiffParser();
+
+    static Stream<Arguments> patches() {
+        return Stream.of(
+                Arguments.of("단일 hunk", """
+                        @@ -1,3 +1,4 @@ class Foo {
+                         line1
+                        -line2
+                        +line2 changed
+                        +line2 added
+                         line3
+                        """),
+                Arguments.of("여러 hunk", """
+                        @@ -1,2 +1,2 @@
+                        -a
+                        +b
+                         c
+                        @@ -10 +10 @@ void bar()
+                        -x
+                        +y
+                        """),
+                Arguments.of("CRLF", "@@ -1,2 +1,2 @@\r\n-old\r\n+new\r\n context\r\n"),
+                Arguments.of("마지막 줄 개행 없음", """
+                        @@ -1 +1 @@
+                        -old
+                        \\ No newline at end of file
+                        +new
+                        \\ No newline at end of file"""),
+                Arguments.of("빈 hunk", """
+                        @@ -0,0 +0,0 @@
+                        @@ -1,1 +1,1 @@
+                        -a
+                        +b
+                        """),
+                Arguments.of("hunk 이전 파일 헤더", """
+                        diff --git a/Foo.java b/Foo.java
+                        --- a/Foo.java
+                        +++ b/Foo.java
+                        @@ -5,2 +5,3 @@
+                         keep
+                        +added
+                         keep
+                        """),
+                Arguments.of("빈 줄 포함", "@@ -1,3 +1,3 @@\n a\n\n-b\n+c\n"),
+                Arguments.of("hunk 없음", "Binary files differ\n"),
+                Arguments.of("빈 patch", "")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("patches")
+    void charSequence_matchesDiffUtil(String name, String patch) {
+        List<DiffHunk> expected = diffUtil.parseDiffHunks(patch);
+
+        assertThat(streamingDiffParser.parse(patch))
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("patches")
+    void reader_matchesCharSequence(String name, String patch) {
+        assertThat(streamingDiffParser.parse(new StringReader(patch)))
+                .usingRecursiveComparison()
+                .isEqualTo(streamingDiffParser.parse(patch));
+    }
+
+    @Test
+    void loneCarriageReturn_isKeptAsContentByBothOverloads() {
+        String patch = "@@ -1 +1 @@\n-old\rvalue\n+new\rvalue\n";
+
+        List<DiffHunk> fromCharSequence = streamingDiffParser.parse(patch);
+        List<DiffHunk> fromReader = streamingDiffParser.parse(new StringReader(patch));
+
+        assertThat(fromCharSequence).hasSize(1);
+        assertThat(fromCharSequence.get(0)
+                .getLines()).containsExactly("-old\rvalue", "+new\rvalue");
+        assertThat(fromReader)
+                .usingRecursiveComparison()
+                .isEqualTo(fromCharSequence);
+    }
+
+    @Test
+    void hunkHeader_defaultsOmittedCountsToOne() {
+        List<DiffHunk> hunks = streamingDiffParser.parse("@@ -7 +9 @@\n-a\n+b\n");
+
+        assertThat(hunks).hasSize(1);
+        DiffHunk hunk = hunks.get(0);
+        assertThat(hunk.getOldStart()).isEqualTo(7);
+        assertThat(hunk.getOldLines()).isEqualTo(1);
+        assertThat(hunk.getNewStart()).isEqualTo(9);
+        assertThat(hunk.getNewLines()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.ottereview.webhook.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 디버깅용 웹훅 payload 로그를 표본으로만 남기는 컴포넌트
+ * 보기 좋게 다시 직렬화하는 비용이 크므로 DEBUG 레벨이고 표본에 걸린 경우에만 수행한다.
+ */
+@Slf4j
+@Component
+public class WebhookDebugSampler {
+
+    private final ObjectMapper objectMapper;
+    private final double sampleRate;
+
+    public WebhookDebugSampler(ObjectMapper objectMapper,
+            @Value("${webhook.debug.sample-rate:0.0}") double sampleRate) {
+        this.objectMapper = objectMapper;
+        this.sampleRate = sampleRate;
+    }
+
+    public void log(String event, String deliveryId, String payload) {
+        if (!log.isDebugEnabled() || sampleRate <= 0 || ThreadLocalRandom.current()
+                .nextDouble() >= sampleRate) {
+            return;
+        }
+
+        try {
+            log.debug("[웹훅 payload 표본] 이벤트: {}, delivery: {}\n{}", event, deliveryId,
+                    objectMapper.writerWithDefaultPrettyPrinter()
+                            .writeValueAsString(objectMapper.readTree(payload)));
+        } catch (Exception e) {
+            log.debug("웹훅 payload 표본 출력 실패: {}", e.getMessage());
+        }
+    }
+}
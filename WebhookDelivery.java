@@ -0,0 +1,131 @@
+package com.ssafy.ottereview.webhook.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 수신한 GitHub 웹훅 원본을 보관하는 outbox 엔티티
+ * 컨트롤러는 이 행만 저장하고 바로 응답하며, 실제 처리는 워커가 비동기로 수행한다.
+ */
+@Entity
+@Table(name = "webhook_delivery", indexes = {
+        @Index(name = "idx_webhook_delivery_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_webhook_delivery_partition_status", columnList = "partition_key, status")
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class WebhookDelivery {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "delivery_id", nullable = false, unique = true, length = 64)
+    private String deliveryId;
+
+    @Column(nullable = false, length = 64)
+    private String event;
+
+    // 같은 PR 의 이벤트를 순서대로 처리하기 위한 키 (WebhookEnvelope.partitionKey)
+    @Column(name = "partition_key", nullable = false)
+    private long partitionKey;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WebhookDeliveryStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // PENDING 이면 다음 처리 가능 시각, PROCESSING 이면 처리 임대(lease) 만료 시각
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "modified_at", nullable = false)
+    private LocalDateTime modifiedAt;
+
+    // lease 가 끝나 다른 워커가 다시 가져간 뒤 늦게 도착한 완료/실패 기록이 새 시도를 덮어쓰지 않게 한다.
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    public static WebhookDelivery received(String deliveryId, String event, String payload, long partitionKey) {
+        LocalDateTime now = LocalDateTime.now();
+        return WebhookDelivery.builder()
+                .deliveryId(deliveryId)
+                .event(event)
+                .partitionKey(partitionKey)
+                .payload(payload)
+                .status(WebhookDeliveryStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .modifiedAt(now)
+                .build();
+    }
+
+    /**
+     * 워커가 처리를 가져간다. lease 안에 완료/실패가 기록되지 않으면 다른 워커가 다시 가져갈 수 있다.
+     */
+    public void claim(Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        this.status = WebhookDeliveryStatus.PROCESSING;
+        this.attempts++;
+        this.nextAttemptAt = now.plus(lease);
+        this.modifiedAt = now;
+    }
+
+    public void complete() {
+        this.status = WebhookDeliveryStatus.DONE;
+        this.lastError = null;
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패를 기록한다. 최대 시도 횟수를 넘으면 dead letter 로 보내고, 아니면 지수 백오프 후 재시도한다.
+     */
+    public void fail(String error, int maxAttempts, Duration baseBackoff) {
+        LocalDateTime now = LocalDateTime.now();
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        this.modifiedAt = now;
+
+        if (attempts >= maxAttempts) {
+            this.status = WebhookDeliveryStatus.DEAD;
+            return;
+        }
+
+        this.status = WebhookDeliveryStatus.PENDING;
+        this.nextAttemptAt = now.plus(baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 10)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.ottereview.webhook.repository;
+
+import com.ssafy.ottereview.webhook.entity.WebhookDelivery;
+import com.ssafy.ottereview.webhook.entity.WebhookDeliveryStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WebhookDeliveryRepository extends JpaRepository<WebhookDelivery, Long> {
+
+    /**
+     * 처리할 웹훅을 수신 순서대로 가져온다.
+     * 처리 임대가 만료된 PROCESSING 행도 포함하며, SKIP LOCKED 로 여러 워커가 같은 행을 가져가지 않게 한다.
+     * 파티션 키마다 아직 끝나지 않은 가장 앞 행만 가져오므로, 앞선 이벤트가 처리 중이거나 재시도 대기 중이면
+     * 같은 PR 의 다음 이벤트는 어느 노드에서도 가져가지 않는다.
+     */
+    @Query(value = """
+            select d.* from webhook_delivery d
+            where d.status in ('PENDING', 'PROCESSING')
+              and d.next_attempt_at <= :now
+              and not exists (
+                  select 1 from webhook_delivery p
+                  where p.partition_key = d.partition_key
+                    and p.status in ('PENDING', 'PROCESSING')
+                    and p.id < d.id
+              )
+            order by d.id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<WebhookDelivery> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from WebhookDelivery d where d.status = :status and d.modifiedAt < :before")
+    int deleteByStatusAndModifiedAtBefore(@Param("status") WebhookDeliveryStatus status,
+            @Param("before") LocalDateTime before);
+}
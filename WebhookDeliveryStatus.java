@@ -0,0 +1,8 @@
+package com.ssafy.ottereview.webhook.entity;
+
+public enum WebhookDeliveryStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    DEAD
+}
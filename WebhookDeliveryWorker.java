@@ -0,0 +1,193 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.ssafy.ottereview.common.metrics.MetricTagLimiter;
+import com.ssafy.ottereview.webhook.entity.WebhookDelivery;
+import com.ssafy.ottereview.webhook.entity.WebhookDeliveryStatus;
+import com.ssafy.ottereview.webhook.repository.WebhookDeliveryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 에 쌓인 웹훅을 배치로 꺼내 처리하는 워커
+ * 처리에 실패하면 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 DEAD 로 남겨 수동 확인할 수 있게 한다.
+ * 이벤트 종류별 처리 시간과 결과는 webhook.handle 로 기록한다.
+ */
+@Slf4j
+@Component
+public class WebhookDeliveryWorker {
+
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
+    private final Map<String, List<WebhookEventHandler>> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionedExecutor partitionedExecutor;
+    private final MeterRegistry meterRegistry;
+    private final MetricTagLimiter metricTagLimiter;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration retention;
+
+    public WebhookDeliveryWorker(WebhookDeliveryRepository webhookDeliveryRepository,
+            List<WebhookEventHandler> handlers,
+            PlatformTransactionManager transactionManager,
+            PartitionedExecutor partitionedExecutor,
+            MeterRegistry meterRegistry,
+            MetricTagLimiter metricTagLimiter,
+            @Value("${webhook.queue.batch-size:50}") int batchSize,
+            @Value("${webhook.queue.max-attempts:5}") int maxAttempts,
+            @Value("${webhook.queue.lease:PT1M}") Duration lease,
+            @Value("${webhook.queue.base-backoff:PT5S}") Duration baseBackoff,
+            @Value("${webhook.queue.retention:P7D}") Duration retention) {
+        this.webhookDeliveryRepository = webhookDeliveryRepository;
+        this.handlers = handlers.stream()
+                .flatMap(handler -> handler.events()
+                        .stream()
+                        .map(event -> Map.entry(event, handler)))
+                .collect(Collectors.groupingBy(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionedExecutor = partitionedExecutor;
+        this.meterRegistry = meterRegistry;
+        this.metricTagLimiter = metricTagLimiter;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.baseBackoff = baseBackoff;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${webhook.queue.poll-interval:200}")
+    public void drain() {
+        List<WebhookDelivery> deliveries;
+        do {
+            deliveries = claimBatch();
+            processInPartitions(deliveries);
+        } while (deliveries.size() == batchSize);
+    }
+
+    /**
+     * 다른 PR 의 웹훅을 파티션별로 병렬 처리한다.
+     * 같은 PR 의 순서는 findClaimable 이 파티션 키마다 가장 앞선 미완료 행만 가져오는 것으로 보장한다.
+     * (노드가 여러 개여도, 앞선 이벤트가 재시도 대기 중이어도 다음 이벤트를 먼저 처리하지 않는다)
+     */
+    private void processInPartitions(List<WebhookDelivery> deliveries) {
+        List<Future<?>> futures = new ArrayList<>(deliveries.size());
+        for (WebhookDelivery delivery : deliveries) {
+            futures.add(partitionedExecutor.submit(delivery.getPartitionKey(), () -> process(delivery)));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                        .interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("웹훅 처리 결과 기록 실패", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * 완료된 지 오래된 웹훅을 정리한다. DEAD 는 확인을 위해 남겨 둔다.
+     */
+    @Scheduled(cron = "${webhook.queue.cleanup-cron:0 0 4 * * *}")
+    public void purgeCompleted() {
+        Integer deleted = transactionTemplate.execute(status -> webhookDeliveryRepository.deleteByStatusAndModifiedAtBefore(
+                WebhookDeliveryStatus.DONE, LocalDateTime.now()
+                        .minus(retention)));
+        log.info("처리 완료된 웹훅 {}건 정리", deleted);
+    }
+
+    private List<WebhookDelivery> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            List<WebhookDelivery> claimed = webhookDeliveryRepository.findClaimable(LocalDateTime.now(), batchSize);
+            claimed.forEach(delivery -> delivery.claim(lease));
+            return claimed;
+        });
+    }
+
+    void process(WebhookDelivery delivery) {
+        List<WebhookEventHandler> eventHandlers = handlers.getOrDefault(delivery.getEvent(), List.of());
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        if (eventHandlers.isEmpty()) {
+            log.debug("처리기가 없는 웹훅 이벤트, 이벤트: {}, delivery: {}", delivery.getEvent(),
+                    delivery.getDeliveryId());
+            record(delivery, sample, "unhandled", null);
+            return;
+        }
+
+        // 같은 이벤트를 여러 처리기가 받으면 모두 실행하고, 하나라도 실패하면 delivery 를 재시도한다. (처리기는 멱등이어야 한다)
+        CompletableFuture<?>[] results = new CompletableFuture<?>[eventHandlers.size()];
+        for (int i = 0; i < eventHandlers.size(); i++) {
+            results[i] = handleAsync(eventHandlers.get(i), delivery);
+        }
+
+        // 비동기 처리기는 모두 완료될 때 기록한다. 그동안 이 행은 PROCESSING 이므로 같은 PR 의 다음 이벤트는 가져가지 않는다.
+        // 기록(DB 저장)은 future 를 완료한 스레드(ReviewBatchWriter 등)가 아닌 이 delivery 의 파티션 스레드에서 실행한다.
+        CompletableFuture.allOf(results)
+                .whenCompleteAsync((ignored, error) -> record(delivery, sample, "success", error),
+                        partitionedExecutor.executorOf(delivery.getPartitionKey()));
+    }
+
+    private CompletableFuture<Void> handleAsync(WebhookEventHandler handler, WebhookDelivery delivery) {
+        try {
+            return handler.handleAsync(delivery.getPayload());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void record(WebhookDelivery delivery, Timer.Sample sample, String successOutcome, Throwable error) {
+        String outcome = successOutcome;
+
+        if (error == null) {
+            delivery.complete();
+        } else {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            outcome = "failure";
+            log.error("[웹훅 처리 실패] 이벤트: {}, delivery: {}, 시도: {}", delivery.getEvent(),
+                    delivery.getDeliveryId(), delivery.getAttempts(), cause);
+            delivery.fail(cause.getMessage(), maxAttempts, baseBackoff);
+
+            if (delivery.getStatus() == WebhookDeliveryStatus.DEAD) {
+                outcome = "dead";
+                log.error("[웹훅 dead letter] 이벤트: {}, delivery: {}", delivery.getEvent(), delivery.getDeliveryId());
+            }
+        }
+
+        // 이벤트 이름은 GitHub 이 보내는 값이므로 처리기가 없는 이벤트까지 포함해 카디널리티를 제한한다.
+        sample.stop(meterRegistry.timer("webhook.handle", "event", metricTagLimiter.limit("event", delivery.getEvent()),
+                "outcome", outcome));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> webhookDeliveryRepository.save(delivery));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // lease 가 끝나 다른 워커가 다시 가져갔으면 그 시도의 결과를 따른다.
+            log.warn("다른 워커가 다시 가져간 웹훅이라 결과를 기록하지 않음, delivery: {}", delivery.getDeliveryId());
+        } catch (RuntimeException e) {
+            // 기록에 실패해도 lease 가 끝나면 다시 가져가 처리한다.
+            log.error("웹훅 처리 결과 기록 실패, delivery: {}", delivery.getDeliveryId(), e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ssafy.ottereview.webhook.dto;
+
+/**
+ * 웹훅 payload 의 공통 필드
+ * 이벤트 종류와 상관없이 라우팅, 순서 보장, 권한 확인에 필요한 값만 담는다. 없는 값은 null 이다.
+ */
+public record WebhookEnvelope(
+        String action,
+        Long installationId,
+        Long repositoryId,
+        String repositoryFullName,
+        Long pullRequestId,
+        Integer pullRequestNumber,
+        Long senderId
+) {
+
+    // 파티션 키 상위 8비트에 키 종류를 넣어 PR/레포지토리/설치 id 가 서로 겹치지 않게 한다.
+    private static final int KIND_SHIFT = 56;
+    private static final long ID_MASK = (1L << KIND_SHIFT) - 1;
+    private static final long KIND_PULL_REQUEST = 1;
+    private static final long KIND_REPOSITORY = 2;
+    private static final long KIND_INSTALLATION = 3;
+    private static final long KIND_UNORDERED = 4;
+
+    /**
+     * 같은 PR 의 이벤트를 순서대로 처리하기 위한 키 (PR id, 없으면 레포지토리 id, 없으면 설치 id)
+     * 셋 다 없는 이벤트는 순서가 필요 없으므로 delivery 마다 다른 키를 써서 서로 막지 않게 한다.
+     */
+    public long partitionKey(String deliveryId) {
+        if (pullRequestId != null) {
+            return partitionKey(KIND_PULL_REQUEST, pullRequestId);
+        }
+        if (repositoryId != null) {
+            return partitionKey(KIND_REPOSITORY, repositoryId);
+        }
+        if (installationId != null) {
+            return partitionKey(KIND_INSTALLATION, installationId);
+        }
+        return unorderedPartitionKey(deliveryId);
+    }
+
+    /**
+     * 순서를 보장하지 않는 delivery 의 파티션 키. 키가 겹쳐도 두 delivery 가 차례로 처리될 뿐이다.
+     */
+    public static long unorderedPartitionKey(String deliveryId) {
+        return partitionKey(KIND_UNORDERED, deliveryId != null ? Integer.toUnsignedLong(deliveryId.hashCode()) : 0L);
+    }
+
+    private static long partitionKey(long kind, long id) {
+        return kind << KIND_SHIFT | id & ID_MASK;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ssafy.ottereview.webhook.dto;
+
+/**
+ * 공통 필드와 이벤트별 본문(comment, review 등)을 함께 담은 웹훅 이벤트
+ *
+ * @param body 요청한 본문 필드가 payload 에 없으면 null
+ */
+public record WebhookEvent<T>(WebhookEnvelope envelope, T body) {
+
+}
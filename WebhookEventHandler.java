@@ -0,0 +1,33 @@
+package com.ssafy.ottereview.webhook.service;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 웹훅 이벤트 타입별 처리기
+ * 워커가 outbox 에서 꺼낸 payload 를 이벤트 타입(X-GitHub-Event)에 맞는 처리기로 전달한다.
+ * 같은 delivery 가 두 번 이상 전달될 수 있으므로 처리는 멱등이어야 한다.
+ * payload 는 WebhookPayloadDecoder 로 필요한 본문 타입만 지정해 한 번에 읽는다.
+ */
+public interface WebhookEventHandler {
+
+    String event();
+
+    /**
+     * 이 처리기로 받을 이벤트 타입 목록. 여러 이벤트를 같은 방식으로 처리할 때만 재정의한다.
+     */
+    default Set<String> events() {
+        return Set.of(event());
+    }
+
+    void handle(String payload);
+
+    /**
+     * 처리 결과를 나중에 알려 주는 처리기(배치 반영 등)는 재정의한다.
+     * 워커는 파티션 스레드를 막지 않고, 반환한 future 가 완료된 시점에 delivery 를 완료/실패로 기록한다.
+     */
+    default CompletableFuture<Void> handleAsync(String payload) {
+        handle(payload);
+        return CompletableFuture.completedFuture(null);
+    }
+}
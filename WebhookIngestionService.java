@@ -0,0 +1,53 @@
+package com.ssafy.ottereview.webhook.service;
+
+import com.ssafy.ottereview.webhook.dto.WebhookEnvelope;
+import com.ssafy.ottereview.webhook.entity.WebhookDelivery;
+import com.ssafy.ottereview.webhook.repository.WebhookDeliveryRepository;
+import com.ssafy.ottereview.webhook.util.WebhookDebugSampler;
+import com.ssafy.ottereview.webhook.util.WebhookPayloadDecoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 웹훅 수신 시 원본 payload 를 outbox 에 저장만 하고 돌아가는 서비스
+ * GithubWebhookController 는 enqueue 후 바로 202 Accepted 로 응답한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebhookIngestionService {
+
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
+    private final WebhookPayloadDecoder webhookPayloadDecoder;
+    private final WebhookDebugSampler webhookDebugSampler;
+
+    /**
+     * 트랜잭션을 열지 않고 save 자체 트랜잭션으로 저장한다.
+     * delivery_id 유니크 제약 위반이 호출 측 트랜잭션을 rollback-only 로 만들지 않게 하기 위함이다.
+     * 중복 수신은 저장과 같은 연산인 delivery_id 유니크 제약으로만 거르므로, 저장 전에 죽어도 재전송이 버려지지 않는다.
+     */
+    public void enqueue(String event, String deliveryId, String payload) {
+        webhookDebugSampler.log(event, deliveryId, payload);
+
+        try {
+            long partitionKey = partitionKeyOf(deliveryId, payload);
+            webhookDeliveryRepository.save(WebhookDelivery.received(deliveryId, event, payload, partitionKey));
+            log.info("[웹훅 이벤트 수신] 이벤트: {}, delivery: {}", event, deliveryId);
+        } catch (DataIntegrityViolationException e) {
+            log.info("[웹훅 중복 수신] 이벤트: {}, delivery: {}", event, deliveryId);
+        }
+    }
+
+    private long partitionKeyOf(String deliveryId, String payload) {
+        try {
+            return webhookPayloadDecoder.decodeEnvelope(payload)
+                    .partitionKey(deliveryId);
+        } catch (IllegalArgumentException e) {
+            // 읽을 수 없는 payload 끼리 한 파티션에 묶여 서로 막지 않게 한다.
+            log.warn("웹훅 파티션 키 추출 실패: {}", e.getMessage());
+            return WebhookEnvelope.unorderedPartitionKey(deliveryId);
+        }
+    }
+}
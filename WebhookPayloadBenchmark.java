@@ -0,0 +1,83 @@
+package com.ssafy.ottereview.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ottereview.webhook.dto.WebhookEvent;
+import com.ssafy.ottereview.webhook.util.WebhookPayloadDecoder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * pull_request_review_comment 웹훅 payload 처리 비용 비교
+ * 기존 경로(readTree → pretty print 로그 → DTO 바인딩)와 WebhookPayloadDecoder 의 단일 스트리밍 파싱을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebhookPayloadBenchmark {
+
+    @Param({"1", "64"})
+    private int diffHunkKb;
+
+    private String payload;
+    private ObjectMapper objectMapper;
+    private WebhookPayloadDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        payload = BenchmarkFixtures.reviewCommentPayload(diffHunkKb * 1024);
+        objectMapper = new ObjectMapper();
+        decoder = new WebhookPayloadDecoder(objectMapper);
+    }
+
+    @Benchmark
+    public ReviewComment treeThenBind() throws JsonProcessingException {
+        JsonNode json = objectMapper.readTree(payload);
+        String formattedPayload = objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValueAsString(json);
+        return formattedPayload.isEmpty() ? null : objectMapper.treeToValue(json.get("comment"), ReviewComment.class);
+    }
+
+    @Benchmark
+    public WebhookEvent<ReviewComment> streamingDecode() {
+        return decoder.decode(payload, "comment", ReviewComment.class);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ReviewComment(
+            long id,
+            String path,
+            String body,
+            Integer line,
+            @JsonProperty("pull_request_review_id") Long pullRequestReviewId
+    ) {
+
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WebhookPayloadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
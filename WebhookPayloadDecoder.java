@@ -0,0 +1,142 @@
+package com.ssafy.ottereview.webhook.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.ottereview.webhook.dto.WebhookEnvelope;
+import com.ssafy.ottereview.webhook.dto.WebhookEvent;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 웹훅 payload 를 Jackson 스트리밍 파서로 한 번만 훑어 공통 필드와 이벤트 본문을 읽는 디코더
+ * JsonNode 트리를 만들지 않고, 필요 없는 필드(diff_hunk 가 담긴 하위 객체 등)는 skipChildren 으로 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebhookPayloadDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 공통 필드만 읽는다.
+     */
+    public WebhookEnvelope decodeEnvelope(String payload) {
+        return decode(payload, null, Void.class).envelope();
+    }
+
+    /**
+     * 공통 필드와 함께 bodyField 의 하위 객체를 bodyType 으로 바인딩한다.
+     * bodyType 에 선언되지 않은 필드는 바인딩하지 않도록 @JsonIgnoreProperties(ignoreUnknown = true) 를 붙인다.
+     *
+     * @param bodyField 본문이 담긴 최상위 필드 이름 (예: "comment", "review")
+     */
+    public <T> WebhookEvent<T> decode(String payload, String bodyField, Class<T> bodyType) {
+        try (JsonParser parser = objectMapper.getFactory()
+                .createParser(payload)) {
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Webhook payload is not a JSON object");
+            }
+
+            EnvelopeFields fields = new EnvelopeFields();
+            T body = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if (name.equals(bodyField) && token == JsonToken.START_OBJECT) {
+                    body = objectMapper.readValue(parser, bodyType);
+                    continue;
+                }
+
+                switch (name) {
+                    case "action" -> fields.action = parser.getValueAsString();
+                    case "installation" -> readFields(parser, (field, p) -> {
+                        if (field.equals("id")) {
+                            fields.installationId = p.getValueAsLong();
+                            return true;
+                        }
+                        return false;
+                    });
+                    case "repository" -> readFields(parser, (field, p) -> switch (field) {
+                        case "id" -> {
+                            fields.repositoryId = p.getValueAsLong();
+                            yield true;
+                        }
+                        case "full_name" -> {
+                            fields.repositoryFullName = p.getValueAsString();
+                            yield true;
+                        }
+                        default -> false;
+                    });
+                    case "pull_request" -> readFields(parser, (field, p) -> switch (field) {
+                        case "id" -> {
+                            fields.pullRequestId = p.getValueAsLong();
+                            yield true;
+                        }
+                        case "number" -> {
+                            fields.pullRequestNumber = p.getValueAsInt();
+                            yield true;
+                        }
+                        default -> false;
+                    });
+                    case "sender" -> readFields(parser, (field, p) -> {
+                        if (field.equals("id")) {
+                            fields.senderId = p.getValueAsLong();
+                            return true;
+                        }
+                        return false;
+                    });
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return new WebhookEvent<>(fields.toEnvelope(), body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to decode webhook payload: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 현재 위치의 객체 필드를 하나씩 reader 에 넘긴다. reader 가 읽지 않은 필드와 하위 객체/배열은 건너뛴다.
+     */
+    private static void readFields(JsonParser parser, FieldReader reader) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (!reader.read(field, parser)) {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+
+        boolean read(String field, JsonParser parser) throws IOException;
+    }
+
+    private static final class EnvelopeFields {
+
+        private String action;
+        private Long installationId;
+        private Long repositoryId;
+        private String repositoryFullName;
+        private Long pullRequestId;
+        private Integer pullRequestNumber;
+        private Long senderId;
+
+        private WebhookEnvelope toEnvelope() {
+            return new WebhookEnvelope(action, installationId, repositoryId, repositoryFullName, pullRequestId,
+                    pullRequestNumber, senderId);
+        }
+    }
+}
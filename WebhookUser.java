@@ -0,0 +1,24 @@
+package com.ssafy.ottereview.webhook.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ssafy.ottereview.user.dto.GithubUserProfile;
+
+/**
+ * 웹훅 payload 의 GitHub 사용자 필드
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record WebhookUser(
+        long id,
+        String login,
+        String type,
+        @JsonProperty("avatar_url") String avatarUrl
+) {
+
+    /**
+     * 웹훅 payload 에는 email 이 없으므로 비워 둔다.
+     */
+    public GithubUserProfile toProfile() {
+        return new GithubUserProfile(id, login, null, type, avatarUrl);
+    }
+}